@@ -0,0 +1,97 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.common.ApiResponse;
+import com.cursorboard.common.CursorPage;
+import com.cursorboard.post.api.response.CommentResponse;
+import com.cursorboard.post.api.response.PostResponse;
+import com.cursorboard.post.domain.Comment;
+import com.cursorboard.post.domain.Post;
+import com.cursorboard.user.domain.User;
+import com.cursorboard.user.domain.UserRole;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 수에 따른 게시글 상세 응답 조립 비용과, ApiResponse 로 감싼 응답의 Jackson 직렬화 비용.
+ * ObjectMapper 는 Spring Boot 기본 설정(날짜를 ISO 문자열로 출력)에 맞춘다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostResponseBenchmark {
+
+    private static final int LIST_SIZE = 20;
+
+    @Param({"0", "20", "100", "500"})
+    private int commentCount;
+
+    private ObjectMapper objectMapper;
+    private Post post;
+    private List<Comment> comments;
+    private PostResponse response;
+    private ApiResponse<PostResponse> detail;
+    private ApiResponse<List<PostResponse>> list;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        User user = new User("bench@cursor.com", "password", UserRole.USER);
+        post = new Post("벤치마크 게시글 제목", "본문 내용입니다. ".repeat(100), user);
+        comments = new ArrayList<>(commentCount);
+        List<CommentResponse> commentResponses = new ArrayList<>(commentCount);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(new Comment("댓글 내용 " + i, user, post));
+            commentResponses.add(new CommentResponse((long) i, "댓글 내용 " + i, "commenter" + i + "@cursor.com", now));
+        }
+
+        response = new PostResponse(1L, post.getTitle(), post.getContent(), user.getEmail(), commentCount, 1234L,
+                commentResponses, null, now, now);
+        detail = ApiResponse.success(response, "게시글을 조회했습니다.");
+        list = ApiResponse.success(Collections.nCopies(LIST_SIZE, response), "게시글 목록을 조회했습니다.");
+    }
+
+    @Benchmark
+    public PostResponse convert() {
+        List<CommentResponse> converted = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            converted.add(PostService.convertToCommentResponse(comment, "commenter@cursor.com"));
+        }
+        return PostService.convertToPostResponse(post, "bench@cursor.com", new CursorPage<>(converted, null));
+    }
+
+    @Benchmark
+    public byte[] serializeDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(list);
+    }
+}
@@ -0,0 +1,69 @@
+package com.cursorboard.security.jwt;
+
+import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.user.domain.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 가 요청마다 수행하던 기존 경로(파서 생성 + 서명 검증 3회)와
+ * 파서 재사용 1회 파싱, 검증 캐시 적중 경로를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "cursor-board-jwt-secret-key-256-bits-long-1234567890abcdefghijklmnopqrstuvwxyz";
+
+    private Key key;
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        tokenProvider = new JwtTokenProvider(SECRET, 86400, 10_000, 300);
+        UserPrincipal principal = new UserPrincipal(1L, "bench@cursor.com", null, UserRole.USER);
+        token = tokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        tokenProvider.resolveClaims(token);
+    }
+
+    @Benchmark
+    public void legacyThreeParses(Blackhole blackhole) {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        blackhole.consume(Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().getSubject());
+        blackhole.consume(Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().get("role", String.class));
+    }
+
+    @Benchmark
+    public Object parseOnce() {
+        return tokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public Object cachedResolve() {
+        return tokenProvider.resolveClaims(token);
+    }
+}
@@ -0,0 +1,65 @@
+package com.cursorboard.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필터가 요청마다 거치는 경로(정책 찾기 + 버킷 CAS)의 비용. keys=1 은 한 버킷에 CAS 경합이 몰리는 최악의 경우다.
+ * 용량을 크게 잡아 측정 중에는 거절되지 않게 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "10000"})
+    private int keys;
+
+    private RateLimiter rateLimiter;
+    private Long[] userIds;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(meterRegistry, true,
+                10, Duration.ofMinutes(1),
+                1_000_000_000, Duration.ofSeconds(1),
+                10, Duration.ofMinutes(1));
+        userIds = new Long[keys];
+        for (int i = 0; i < keys; i++) {
+            userIds[i] = (long) i;
+        }
+    }
+
+    @Benchmark
+    public long unmatchedGet() {
+        RateLimitPolicy policy = rateLimiter.policyFor("GET", "/api/posts/42");
+        return policy == null ? 0 : 1;
+    }
+
+    @Benchmark
+    public long createPost() {
+        RateLimitPolicy policy = rateLimiter.policyFor("POST", "/api/posts");
+        Long key = userIds[ThreadLocalRandom.current().nextInt(keys)];
+        return rateLimiter.tryAcquire(policy, key);
+    }
+}
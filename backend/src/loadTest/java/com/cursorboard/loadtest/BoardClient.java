@@ -0,0 +1,83 @@
+package com.cursorboard.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 게시판 REST API 를 호출하는 최소한의 HTTP 클라이언트. 응답 대기는 가상 스레드에서 이뤄진다.
+ */
+final class BoardClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+
+    BoardClient(int port) {
+        this.baseUri = URI.create("http://localhost:" + port);
+    }
+
+    String signupAndLogin(String email, String password) throws IOException, InterruptedException {
+        post("/api/auth/signup", null, Map.of("email", email, "password", password));
+        return login(email, password);
+    }
+
+    String login(String email, String password) throws IOException, InterruptedException {
+        return post("/api/auth/login", null, Map.of("email", email, "password", password)).path("data").path("token").asText();
+    }
+
+    long createPost(String token, String title, String content) throws IOException, InterruptedException {
+        return post("/api/posts", token, Map.of("title", title, "content", content)).path("data").path("id").asLong();
+    }
+
+    void createComment(String token, long postId, String content) throws IOException, InterruptedException {
+        post("/api/posts/" + postId + "/comments", token, Map.of("content", content));
+    }
+
+    /**
+     * 본문은 버리고 상태 코드만 돌려준다.
+     */
+    int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(TIMEOUT).GET().build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * 부하 구간용. 실패해도 예외 대신 상태 코드를 돌려준다.
+     */
+    int postForStatus(String path, String token, Object body) throws IOException, InterruptedException {
+        return http.send(jsonPost(path, token, body), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private JsonNode post(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(jsonPost(path, token, body), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(path + " failed with " + response.statusCode() + ": " + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest jsonPost(String path, String token, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+}
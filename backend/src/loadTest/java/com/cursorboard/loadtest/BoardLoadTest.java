@@ -0,0 +1,184 @@
+package com.cursorboard.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * h2 프로파일로 애플리케이션을 띄우고 시드 데이터를 만든 뒤, 읽기/쓰기/로그인/댓글이 섞인 닫힌 루프 부하를 건다.
+ * 요청 종류별 처리량과 p50/p99/p999 를 출력하고 JSON 으로 남기며, SLO 를 벗어나면 0 이 아닌 코드로 종료한다.
+ * <pre>./gradlew loadTest -Ploadtest.concurrency=400 -Ploadtest.durationSeconds=120</pre>
+ */
+public final class BoardLoadTest {
+
+    private BoardLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Map<Operation, OperationStats> stats;
+        try (ConfigurableApplicationContext context = LoadTestServer.start()) {
+            BoardClient client = new BoardClient(LoadTestServer.port(context));
+            long seedStartedAt = System.nanoTime();
+            Dataset dataset = Dataset.seed(client, settings.users(), settings.posts(), settings.commentsPerPost());
+            System.out.printf("Seeded %d users, %d posts, %d comments in %.1f s%n",
+                    settings.users(), settings.posts(), settings.posts() * settings.commentsPerPost(),
+                    (System.nanoTime() - seedStartedAt) / 1e9);
+
+            Workload workload = new Workload(client, dataset, settings.mix());
+            workload.run(settings.concurrency(), settings.warmup(), null);
+            stats = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                stats.put(operation, new OperationStats());
+            }
+            workload.run(settings.concurrency(), settings.duration(), stats);
+        }
+
+        print(settings, stats);
+        writeReport(settings, stats);
+        List<String> violations = checkSlo(settings, stats);
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> System.err.println("SLO violation: " + violation));
+            System.exit(1);
+        }
+        System.out.println("All SLOs met.");
+    }
+
+    private static void print(LoadTestSettings settings, Map<Operation, OperationStats> stats) {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        System.out.printf("%nconcurrency=%d, duration=%ds%n", settings.concurrency(), settings.duration().toSeconds());
+        System.out.printf("%-15s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        long total = 0;
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats stat = entry.getValue();
+            total += stat.count();
+            System.out.printf("%-15s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().key(), stat.count(), stat.errors(), stat.count() / seconds,
+                    stat.percentileMillis(50.0), stat.percentileMillis(99.0), stat.percentileMillis(99.9), stat.maxMillis());
+        }
+        System.out.printf("%-15s %9d %7s %9.1f%n", "total", total, "", total / seconds);
+    }
+
+    private static void writeReport(LoadTestSettings settings, Map<Operation, OperationStats> stats) throws Exception {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, stat) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", stat.count());
+            row.put("errors", stat.errors());
+            row.put("throughput", stat.count() / seconds);
+            row.put("p50Millis", stat.percentileMillis(50.0));
+            row.put("p99Millis", stat.percentileMillis(99.0));
+            row.put("p999Millis", stat.percentileMillis(99.9));
+            row.put("maxMillis", stat.maxMillis());
+            row.put("sloP99Millis", settings.p99Millis().get(operation));
+            operations.put(operation.key(), row);
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", settings.concurrency());
+        report.put("durationSeconds", settings.duration().toSeconds());
+        report.put("users", settings.users());
+        report.put("posts", settings.posts());
+        report.put("commentsPerPost", settings.commentsPerPost());
+        report.put("operations", operations);
+
+        Files.createDirectories(settings.reportFile().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(settings.reportFile().toFile(), report);
+        System.out.println("Report written to " + settings.reportFile().toAbsolutePath());
+    }
+
+    private static List<String> checkSlo(LoadTestSettings settings, Map<Operation, OperationStats> stats) {
+        List<String> violations = new ArrayList<>();
+        stats.forEach((operation, stat) -> {
+            if (stat.count() == 0) {
+                return;
+            }
+            double p99 = stat.percentileMillis(99.0);
+            long limit = settings.p99Millis().get(operation);
+            if (p99 > limit) {
+                violations.add(String.format("%s p99 %.2f ms > %d ms", operation.key(), p99, limit));
+            }
+            if (stat.errorRate() > settings.maxErrorRate()) {
+                violations.add(String.format("%s error rate %.4f > %.4f", operation.key(), stat.errorRate(), settings.maxErrorRate()));
+            }
+        });
+        return violations;
+    }
+
+    /**
+     * 가중치에 따라 요청 종류를 고르고 실제 엔드포인트를 호출한다. 2xx 가 아니거나 예외가 나면 오류로 센다.
+     */
+    private static final class Workload {
+
+        private final BoardClient client;
+        private final Dataset dataset;
+        private final Operation[] wheel;
+
+        Workload(BoardClient client, Dataset dataset, Map<Operation, Integer> mix) {
+            this.client = client;
+            this.dataset = dataset;
+            List<Operation> slots = new ArrayList<>();
+            mix.forEach((operation, weight) -> {
+                for (int i = 0; i < weight; i++) {
+                    slots.add(operation);
+                }
+            });
+            if (slots.isEmpty()) {
+                throw new IllegalArgumentException("loadtest.mix 의 가중치 합이 0 입니다.");
+            }
+            this.wheel = slots.toArray(Operation[]::new);
+        }
+
+        void run(int concurrency, Duration duration, Map<Operation, OperationStats> stats) throws InterruptedException {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Thread> workers = new ArrayList<>(concurrency);
+            for (int w = 0; w < concurrency; w++) {
+                workers.add(Thread.ofVirtual().start(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = wheel[random.nextInt(wheel.length)];
+                        long startedAt = System.nanoTime();
+                        boolean ok;
+                        try {
+                            int status = execute(operation, random);
+                            ok = status >= 200 && status < 300;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        if (stats != null) {
+                            stats.get(operation).record(System.nanoTime() - startedAt, ok);
+                        }
+                    }
+                }));
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+
+        private int execute(Operation operation, ThreadLocalRandom random) throws Exception {
+            int user = dataset.randomUser(random);
+            return switch (operation) {
+                case LIST_POSTS -> client.get("/api/posts?limit=20");
+                case GET_POST -> client.get("/api/posts/" + dataset.randomPostId(random));
+                case GET_COMMENTS -> client.get("/api/posts/" + dataset.randomPostId(random) + "/comments?limit=20");
+                case CREATE_POST -> client.postForStatus("/api/posts", dataset.token(user),
+                        Map.of("title", "부하 테스트 새 글", "content", "본문 ".repeat(50)));
+                case CREATE_COMMENT -> client.postForStatus("/api/posts/" + dataset.randomPostId(random) + "/comments",
+                        dataset.token(user), Map.of("content", "부하 테스트 댓글"));
+                case LOGIN -> client.postForStatus("/api/auth/login", null,
+                        Map.of("email", dataset.email(user), "password", Dataset.PASSWORD));
+            };
+        }
+    }
+}
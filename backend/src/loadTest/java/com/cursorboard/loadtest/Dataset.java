@@ -0,0 +1,80 @@
+package com.cursorboard.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실제 API 로 만든 시드 데이터. 사용자별 토큰과 게시글 id 를 워크로드가 무작위로 골라 쓴다.
+ */
+final class Dataset {
+
+    static final String PASSWORD = "loadtest1234";
+    private static final int SEED_PARALLELISM = 32;
+
+    private final List<String> emails;
+    private final List<String> tokens;
+    private final long[] postIds;
+
+    private Dataset(List<String> emails, List<String> tokens, long[] postIds) {
+        this.emails = emails;
+        this.tokens = tokens;
+        this.postIds = postIds;
+    }
+
+    static Dataset seed(BoardClient client, int users, int posts, int commentsPerPost) throws Exception {
+        List<String> emails = new ArrayList<>(users);
+        List<String> tokens = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String email = "loadtest" + i + "@cursorboard.com";
+            emails.add(email);
+            tokens.add(client.signupAndLogin(email, PASSWORD));
+        }
+
+        long[] postIds = new long[posts];
+        Semaphore permits = new Semaphore(SEED_PARALLELISM);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(posts);
+            for (int i = 0; i < posts; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        String author = tokens.get(index % users);
+                        postIds[index] = client.createPost(author, "부하 테스트 게시글 " + index, "본문 ".repeat(50) + index);
+                        for (int c = 0; c < commentsPerPost; c++) {
+                            client.createComment(tokens.get((index + c + 1) % users), postIds[index], "댓글 " + c);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return new Dataset(emails, tokens, postIds);
+    }
+
+    long randomPostId(ThreadLocalRandom random) {
+        return postIds[random.nextInt(postIds.length)];
+    }
+
+    int randomUser(ThreadLocalRandom random) {
+        return random.nextInt(emails.size());
+    }
+
+    String email(int user) {
+        return emails.get(user);
+    }
+
+    String token(int user) {
+        return tokens.get(user);
+    }
+}
@@ -0,0 +1,29 @@
+package com.cursorboard.loadtest;
+
+import com.cursorboard.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 부하 테스트용으로 h2 프로파일의 애플리케이션을 임의 포트에 띄운다.
+ */
+final class LoadTestServer {
+
+    private LoadTestServer() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("h2")
+                // 소수의 계정으로 쓰기 부하를 거므로 요청 빈도 제한은 끈다.
+                .properties("server.port=0", "logging.level.root=WARN", "logging.level.com.cursorboard=INFO",
+                        "board.rate-limit.enabled=false")
+                .properties(properties)
+                .run();
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
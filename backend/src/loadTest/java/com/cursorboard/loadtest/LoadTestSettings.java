@@ -0,0 +1,42 @@
+package com.cursorboard.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * loadtest.* 시스템 프로퍼티로 받는 부하 테스트 설정. Gradle 에서는 -Ploadtest.xxx=값 으로 넘긴다.
+ */
+record LoadTestSettings(
+        int users,
+        int posts,
+        int commentsPerPost,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        Map<Operation, Long> p99Millis,
+        double maxErrorRate,
+        Path reportFile) {
+
+    static LoadTestSettings fromSystemProperties() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        Map<Operation, Long> p99Millis = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, Integer.getInteger("loadtest.mix." + operation.key(), operation.defaultWeight()));
+            p99Millis.put(operation, Long.getLong("loadtest.slo." + operation.key() + ".p99", operation.defaultP99Millis()));
+        }
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 50),
+                Integer.getInteger("loadtest.posts", 1000),
+                Integer.getInteger("loadtest.commentsPerPost", 5),
+                Integer.getInteger("loadtest.concurrency", 200),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60)),
+                mix,
+                p99Millis,
+                Double.parseDouble(System.getProperty("loadtest.slo.maxErrorRate", "0.01")),
+                Path.of(System.getProperty("loadtest.reportFile", "build/reports/loadtest/results.json")));
+    }
+}
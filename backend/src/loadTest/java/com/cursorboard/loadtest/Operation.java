@@ -0,0 +1,38 @@
+package com.cursorboard.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 부하 테스트 워크로드를 이루는 요청 종류. 기본 비중과 기본 p99 SLO(ms)를 가진다.
+ */
+enum Operation {
+    LIST_POSTS(30, 150),
+    GET_POST(35, 150),
+    GET_COMMENTS(10, 150),
+    CREATE_POST(5, 300),
+    CREATE_COMMENT(17, 300),
+    LOGIN(3, 1000);
+
+    private final int defaultWeight;
+    private final long defaultP99Millis;
+
+    Operation(int defaultWeight, long defaultP99Millis) {
+        this.defaultWeight = defaultWeight;
+        this.defaultP99Millis = defaultP99Millis;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    long defaultP99Millis() {
+        return defaultP99Millis;
+    }
+
+    /**
+     * 시스템 프로퍼티 키에 쓰는 이름. 예) loadtest.mix.get_post, loadtest.slo.get_post.p99
+     */
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,48 @@
+package com.cursorboard.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 한 종류의 지연시간 히스토그램(ns, 유효숫자 3자리)과 오류 수. 여러 워커가 동시에 기록한다.
+ */
+final class OperationStats {
+
+    private final Histogram histogram = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long nanos, boolean ok) {
+        histogram.recordValue(nanos);
+        if (!ok) {
+            errors.increment();
+        }
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double errorRate() {
+        long count = count();
+        return count == 0 ? 0.0 : (double) errors() / count;
+    }
+
+    double percentileMillis(double percentile) {
+        return toMillis(histogram.getValueAtPercentile(percentile));
+    }
+
+    double maxMillis() {
+        return toMillis(histogram.getMaxValue());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
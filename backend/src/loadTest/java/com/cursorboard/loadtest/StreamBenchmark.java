@@ -0,0 +1,149 @@
+package com.cursorboard.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /api/posts/stream 에 subscribers 개의 SSE 연결을 열어 둔 채로 유휴 비용(힙, 스레드)을 재고,
+ * 게시글을 events 번 작성해 모든 구독자에게 전달되기까지의 지연시간을 잰다.
+ * 클라이언트도 같은 JVM 에서 돌기 때문에 힙/스레드 수치에는 클라이언트 몫이 포함된 상한값이다.
+ * 연결마다 소켓이 양쪽에 하나씩 필요하므로 ulimit -n 을 subscribers * 2 보다 크게 잡고 실행한다.
+ * <pre>./gradlew streamBenchmark -Psubscribers=10000 -Pevents=20</pre>
+ */
+public final class StreamBenchmark {
+
+    private static final Pattern PUBLISHED_AT = Pattern.compile("stream-bench-(\\d+)");
+
+    private StreamBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int subscribers = Integer.getInteger("loadtest.subscribers", 10_000);
+        int events = Integer.getInteger("loadtest.events", 20);
+        Duration idle = Duration.ofSeconds(Long.getLong("loadtest.idleSeconds", 20));
+
+        try (ConfigurableApplicationContext context = LoadTestServer.start(
+                "server.tomcat.max-connections=" + (subscribers + 1000),
+                "board.stream.heartbeat-interval=PT5S")) {
+            int port = LoadTestServer.port(context);
+            BoardClient client = new BoardClient(port);
+            String token = client.signupAndLogin("stream-bench@cursor.com", Dataset.PASSWORD);
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+            long heapBefore = usedHeapAfterGc(memory);
+            int threadsBefore = threads.getThreadCount();
+
+            HttpClient http = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts/stream"))
+                    .header("Accept", "text/event-stream")
+                    .build();
+            CountDownLatch connected = new CountDownLatch(subscribers);
+            OperationStats deliveries = new OperationStats();
+            LongAdder failedSubscribers = new LongAdder();
+            List<Thread> readers = new ArrayList<>(subscribers);
+            long connectStartedAt = System.nanoTime();
+            for (int i = 0; i < subscribers; i++) {
+                readers.add(Thread.ofVirtual().start(() -> read(http, request, connected, deliveries, failedSubscribers)));
+            }
+            boolean allConnected = connected.await(2, TimeUnit.MINUTES);
+            long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStartedAt);
+
+            Thread.sleep(idle.toMillis());
+            long heapIdle = usedHeapAfterGc(memory);
+            int threadsIdle = threads.getThreadCount();
+
+            for (int i = 0; i < events; i++) {
+                client.createPost(token, "stream-bench-" + System.nanoTime(), "content");
+                Thread.sleep(200);
+            }
+            long expected = (long) subscribers * events;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (deliveries.count() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            double dropped = meterRegistry.find("board.stream.dropped").counters().stream()
+                    .mapToDouble(counter -> counter.count())
+                    .sum();
+            double serverSubscribers = meterRegistry.get("board.stream.subscribers").tag("stream", "feed").gauge().value();
+
+            System.out.printf("%nsubscribers=%d (connected=%s in %dms, failed=%d, server gauge=%.0f)%n",
+                    subscribers, allConnected, connectMillis, failedSubscribers.sum(), serverSubscribers);
+            System.out.printf("idle: heap +%.1f MB (%.1f KB/subscriber), platform threads +%d%n",
+                    (heapIdle - heapBefore) / 1024.0 / 1024.0,
+                    (heapIdle - heapBefore) / 1024.0 / subscribers,
+                    threadsIdle - threadsBefore);
+            System.out.printf("fan-out: %d/%d delivered, dropped=%.0f, p50=%.2fms p99=%.2fms max=%.2fms%n",
+                    deliveries.count(), expected, dropped,
+                    deliveries.percentileMillis(50.0), deliveries.percentileMillis(99.0), deliveries.maxMillis());
+
+            readers.forEach(Thread::interrupt);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 구독 하나를 끝까지 읽는다. 벤치마크 게시글의 data 줄을 받으면 제목에 담긴 작성 시각으로 지연시간을 기록한다.
+     */
+    private static void read(HttpClient http, HttpRequest request, CountDownLatch connected,
+                             OperationStats deliveries, LongAdder failedSubscribers) {
+        boolean counted = false;
+        try {
+            HttpResponse<InputStream> response = http.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!counted) {
+                        connected.countDown();
+                        counted = true;
+                    }
+                    if (line.startsWith("data:")) {
+                        Matcher matcher = PUBLISHED_AT.matcher(line);
+                        if (matcher.find()) {
+                            deliveries.record(System.nanoTime() - Long.parseLong(matcher.group(1)), true);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            failedSubscribers.increment();
+        } finally {
+            if (!counted) {
+                connected.countDown();
+            }
+        }
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) throws InterruptedException {
+        System.gc();
+        Thread.sleep(500);
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
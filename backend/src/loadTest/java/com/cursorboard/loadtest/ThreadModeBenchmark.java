@@ -0,0 +1,93 @@
+package com.cursorboard.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 같은 워크로드를 플랫폼 스레드(Tomcat 워커 풀)와 가상 스레드 모드에 차례로 걸어 처리량과 지연시간을 비교한다.
+ * 상세 캐시는 꺼서 모든 요청이 DB 까지 가도록 한다.
+ * <pre>./gradlew threadModeBenchmark -Pconcurrency=1000 -PdurationSeconds=30</pre>
+ */
+public final class ThreadModeBenchmark {
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 1000);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30));
+        int posts = Integer.getInteger("loadtest.posts", 200);
+
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            results.add(run(virtualThreads, concurrency, warmup, duration, posts));
+        }
+
+        System.out.printf("%nconcurrency=%d, duration=%ds, posts=%d%n", concurrency, duration.toSeconds(), posts);
+        System.out.printf("%-10s %10s %8s %12s %9s %9s %9s%n", "mode", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        for (Result result : results) {
+            OperationStats stats = result.stats();
+            System.out.printf("%-10s %10d %8d %12.1f %9.2f %9.2f %9.2f%n",
+                    result.mode(), stats.count(), stats.errors(), result.throughput(),
+                    stats.percentileMillis(50.0), stats.percentileMillis(99.0), stats.maxMillis());
+        }
+    }
+
+    private static Result run(boolean virtualThreads, int concurrency, Duration warmup, Duration duration, int posts)
+            throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestServer.start(
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "board.cache.post-detail.enabled=false")) {
+            BoardClient client = new BoardClient(LoadTestServer.port(context));
+            Dataset dataset = Dataset.seed(client, 1, posts, 5);
+            drive(client, dataset, concurrency, warmup, null);
+            OperationStats stats = new OperationStats();
+            drive(client, dataset, concurrency, duration, stats);
+            return new Result(virtualThreads ? "virtual" : "platform", stats, duration);
+        }
+    }
+
+    /**
+     * 게시글 상세 80%, 목록 첫 페이지 20% 로 구성된 닫힌 루프 부하를 concurrency 개의 가상 스레드로 건다.
+     */
+    private static void drive(BoardClient client, Dataset dataset, int concurrency, Duration duration, OperationStats stats)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Thread> workers = new ArrayList<>(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            workers.add(Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    String path = random.nextInt(10) < 8
+                            ? "/api/posts/" + dataset.randomPostId(random)
+                            : "/api/posts?limit=20";
+                    long startedAt = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = client.get(path) == 200;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    if (stats != null) {
+                        stats.record(System.nanoTime() - startedAt, ok);
+                    }
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private record Result(String mode, OperationStats stats, Duration duration) {
+
+        double throughput() {
+            return stats.count() / (duration.toMillis() / 1000.0);
+        }
+    }
+}
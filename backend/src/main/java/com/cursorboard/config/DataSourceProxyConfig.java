@@ -0,0 +1,33 @@
+package com.cursorboard.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceProxyConfig {
+
+    /**
+     * DataSource 를 datasource-proxy 로 감싸 실행된 쿼리 수와 JDBC 시간을 스레드별 QueryCountHolder 에 누적한다.
+     * 풀(Hikari)은 unwrap 으로 그대로 찾을 수 있으므로 커넥션 풀 메트릭에는 영향이 없다.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .countQuery()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,6 +1,11 @@
 package com.cursorboard.config;
 
 import com.cursorboard.common.ApiResponse;
+import com.cursorboard.security.PasswordHashingBusyException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -9,12 +14,29 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ApiResponse<Void>> handleIllegalArgumentException(IllegalArgumentException e) {
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgumentException(IllegalArgumentException e, HttpServletRequest request) {
+        request.setAttribute(HandlerMetricsInterceptor.OUTCOME_ATTRIBUTE, "illegal_argument");
         return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e, HttpServletRequest request) {
+        request.setAttribute(HandlerMetricsInterceptor.OUTCOME_ATTRIBUTE, "conflict");
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("CONFLICT", "다른 사용자가 먼저 수정했습니다. 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePasswordHashingBusyException(PasswordHashingBusyException e, HttpServletRequest request) {
+        request.setAttribute(HandlerMetricsInterceptor.OUTCOME_ATTRIBUTE, "busy");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("BUSY", e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
+    public ResponseEntity<ApiResponse<Void>> handleException(Exception e, HttpServletRequest request) {
+        request.setAttribute(HandlerMetricsInterceptor.OUTCOME_ATTRIBUTE, "server_error");
         return ResponseEntity.internalServerError().body(ApiResponse.error("서버 오류가 발생했습니다."));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.cursorboard.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 핸들러별 지연시간(board.handler)과 요청당 쿼리 수(board.handler.queries), JDBC 시간(board.handler.jdbc)을 기록한다.
+ * outcome 태그는 GlobalExceptionHandler 가 남긴 요청 속성을 따른다.
+ * (success, illegal_argument, conflict, busy, server_error)
+ */
+@Component
+@RequiredArgsConstructor
+public class HandlerMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String OUTCOME_ATTRIBUTE = HandlerMetricsInterceptor.class.getName() + ".outcome";
+    private static final String STARTED_AT_ATTRIBUTE = HandlerMetricsInterceptor.class.getName() + ".startedAt";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답의 재디스패치에서는 최초 시작 시각과 쿼리 누적을 유지한다.
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            request.setAttribute(STARTED_AT_ATTRIBUTE, System.nanoTime());
+            QueryCountHolder.clear();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object startedAt = request.getAttribute(STARTED_AT_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod handlerMethod) || startedAt == null) {
+            return;
+        }
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        Timer.builder("board.handler")
+                .description("Controller handler latency")
+                .tag("handler", handlerName)
+                .tag("outcome", outcome(request, ex))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - (Long) startedAt, TimeUnit.NANOSECONDS);
+
+        QueryCount queries = QueryCountHolder.getGrandTotal();
+        DistributionSummary.builder("board.handler.queries")
+                .description("JDBC statements executed per request")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(queries.getTotal());
+        Timer.builder("board.handler.jdbc")
+                .description("Time spent in JDBC statements per request")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(queries.getTime(), TimeUnit.MILLISECONDS);
+        QueryCountHolder.clear();
+    }
+
+    private static String outcome(HttpServletRequest request, Exception ex) {
+        if (ex != null) {
+            return "server_error";
+        }
+        Object outcome = request.getAttribute(OUTCOME_ATTRIBUTE);
+        return outcome == null ? "success" : outcome.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.cursorboard.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.Map;
+
+/**
+ * 기존 MySQL 스키마에서 IDENTITY 대신 시퀀스 id 로 바꾸면 ddl-auto 가 *_seq 테이블을 1 부터 만들어
+ * 첫 insert 가 이미 있는 id 와 충돌한다. 컨텍스트가 요청을 받기 전에 next_val 을 max(id) + 1 이상으로 올린다.
+ * 시퀀스를 테이블로 흉내 내지 않는 DB(H2 등)에서는 *_seq 테이블이 없으므로 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer {
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "posts_seq", "posts",
+            "comments_seq", "comments",
+            "users_seq", "users");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * EntityManagerFactory 를 받아 Hibernate 의 스키마 생성/갱신이 끝난 뒤에 실행되도록 한다.
+     */
+    public IdSequenceInitializer(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        seed();
+    }
+
+    /**
+     * 한 문장으로 비교와 갱신을 하므로 이미 id 를 할당 중인 다른 인스턴스와 겹쳐도 next_val 을 되돌리지 않는다.
+     * @return 올린 시퀀스 수
+     */
+    public int seed() {
+        int seeded = 0;
+        for (Map.Entry<String, String> sequence : SEQUENCES.entrySet()) {
+            String sequenceTable = sequence.getKey();
+            String table = sequence.getValue();
+            if (!tableExists(sequenceTable)) {
+                continue;
+            }
+            int updated = jdbcTemplate.update(
+                    "update " + sequenceTable + " set next_val = (select coalesce(max(id), 0) + 1 from " + table + ")"
+                            + " where next_val <= (select coalesce(max(id), 0) from " + table + ")");
+            if (updated > 0) {
+                log.info("Seeded {} above the current max id of {}", sequenceTable, table);
+                seeded++;
+            }
+        }
+        return seeded;
+    }
+
+    private boolean tableExists(String name) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (ResultSet tables = connection.getMetaData()
+                    .getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
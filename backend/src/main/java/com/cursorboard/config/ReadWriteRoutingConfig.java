@@ -0,0 +1,97 @@
+package com.cursorboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true), readOnlyTransactionTemplate)을 복제본으로 보낸다.
+ * 캐시 적재용 primaryReadTransactionTemplate 은 읽기 전용이어도 primary 를 사용한다.
+ * primary 는 spring.datasource.*, 복제본은 board.datasource.replicas 의 JDBC URL 목록(계정은 primary 와 같음)으로 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final Duration healthCheckTimeout;
+
+    public ReadWriteRoutingConfig(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${board.datasource.replicas:}") List<String> replicaUrls,
+            @Value("${board.datasource.balancing:round-robin}") String balancing,
+            @Value("${board.datasource.sticky-window:PT2S}") Duration stickyWindow,
+            @Value("${board.datasource.health-check-timeout:PT1S}") Duration healthCheckTimeout,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.healthCheckTimeout = healthCheckTimeout;
+        DataSource primary = pool(properties, ReadWriteRoutingDataSource.PRIMARY, properties.determineUrl(), poolSize, meterRegistry);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (StringUtils.hasText(url)) {
+                String name = "replica-" + (replicas.size() + 1);
+                replicas.put(name, pool(properties, name, url.trim(), poolSize, meterRegistry));
+            }
+        }
+        this.routingDataSource = new ReadWriteRoutingDataSource(primary, replicas,
+                ReadWriteRoutingDataSource.Balancing.from(balancing), stickyWindow,
+                ReadWriteRoutingConfig::currentUser, meterRegistry);
+        this.routingDataSource.afterPropertiesSet();
+    }
+
+    @Bean
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        routingDataSource.checkReplicas(healthCheckTimeout);
+    }
+
+    @PreDestroy
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, String name, String url, int poolSize,
+                                  MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(poolSize);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pools.add(pool);
+        return pool;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,202 @@
+package com.cursorboard.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 정상 복제본 중 하나로, 나머지는 primary 로 보낸다.
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 얻는 시점에야 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    /**
+     * 이 이름의 읽기 전용 트랜잭션은 복제본 대신 primary 에서 읽는다.
+     * 커밋 직후 다시 채우는 캐시처럼, 복제 지연으로 옛 값을 읽으면 TTL 동안 남는 경로에 쓴다.
+     */
+    public static final String PRIMARY_READ_TRANSACTION = "primary-read";
+
+    public enum Balancing {
+        ROUND_ROBIN, LEAST_CONNECTIONS;
+
+        public static Balancing from(String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final Balancing balancing;
+    private final Supplier<String> currentUser;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+
+    /**
+     * @param stickyWindow 쓰기를 커밋한 사용자의 읽기를 이 시간 동안 primary 로 보낸다. 0 이면 끈다.
+     * @param currentUser  요청 사용자 식별자. 인증되지 않았으면 null.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      Map<String, DataSource> replicas,
+                                      Balancing balancing,
+                                      Duration stickyWindow,
+                                      Supplier<String> currentUser,
+                                      MeterRegistry meterRegistry) {
+        this.replicas = new ArrayList<>();
+        this.balancing = balancing;
+        this.currentUser = currentUser;
+        this.recentWriters = stickyWindow.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            targets.put(name, dataSource);
+            Gauge.builder("board.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        for (String route : List.of("primary", "pinned", "replica", "sticky", "fallback")) {
+            routedCounters.put(route, Counter.builder("board.datasource.routed")
+                    .description("커넥션을 얻을 때 선택된 경로")
+                    .tag("route", route)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriter();
+            return routed("primary", PRIMARY);
+        }
+        if (PRIMARY_READ_TRANSACTION.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            return routed("pinned", PRIMARY);
+        }
+        if (isRecentWriter()) {
+            return routed("sticky", PRIMARY);
+        }
+        Replica replica = choose();
+        if (replica == null) {
+            return routed("fallback", PRIMARY);
+        }
+        return routed("replica", replica.name);
+    }
+
+    /**
+     * 각 복제본에서 커넥션을 얻어 검사한다. 실패한 복제본은 다음 검사에서 통과할 때까지 읽기 대상에서 빠진다.
+     */
+    public void checkReplicas(Duration timeout) {
+        int seconds = (int) Math.max(1, timeout.toSeconds());
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(seconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.warn("Replica {} is now {}", replica.name, healthy ? "healthy" : "unhealthy");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    private Replica choose() {
+        List<Replica> healthy = replicas.stream().filter(replica -> replica.healthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        if (balancing == Balancing.LEAST_CONNECTIONS) {
+            Replica least = healthy.get(0);
+            for (Replica replica : healthy) {
+                if (replica.activeConnections() < least.activeConnections()) {
+                    least = replica;
+                }
+            }
+            return least;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    private boolean isRecentWriter() {
+        if (recentWriters == null) {
+            return false;
+        }
+        String user = currentUser.get();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    /**
+     * 커밋된 쓰기만 기록한다. 롤백된 트랜잭션은 복제 지연과 무관하다.
+     */
+    private void trackWriter() {
+        if (recentWriters == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String user = currentUser.get();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private Object routed(String route, String key) {
+        routedCounters.get(route).increment();
+        return key;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
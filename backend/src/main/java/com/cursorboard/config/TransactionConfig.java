@@ -0,0 +1,38 @@
+package com.cursorboard.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    @Primary
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 캐시 미스처럼 필요할 때만 읽기 트랜잭션을 열어야 하는 조회 경로에서 사용한다.
+     */
+    @Bean
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    /**
+     * 읽기 전용이지만 복제본 라우팅을 켜도 primary 에서 읽는다. 캐시 적재처럼 옛 값을 읽으면 오래 남는 경로에서 사용한다.
+     */
+    @Bean
+    public TransactionTemplate primaryReadTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setName(ReadWriteRoutingDataSource.PRIMARY_READ_TRANSACTION);
+        return transactionTemplate;
+    }
+}
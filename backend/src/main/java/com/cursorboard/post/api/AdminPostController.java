@@ -0,0 +1,52 @@
+package com.cursorboard.post.api;
+
+import com.cursorboard.common.ApiResponse;
+import com.cursorboard.post.api.response.PostImportResponse;
+import com.cursorboard.post.application.PostExportService;
+import com.cursorboard.post.application.PostImportService;
+import com.cursorboard.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminPostController {
+
+    private final PostImportService postImportService;
+    private final PostExportService postExportService;
+
+    /**
+     * 한 줄에 게시글 하나씩 담긴 NDJSON 본문을 스트리밍으로 읽어 저장한다.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<PostImportResponse>> importPosts(
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletRequest request) throws IOException {
+        PostImportResponse response = postImportService.importPosts(principal, request.getInputStream());
+        return ResponseEntity.ok(ApiResponse.success(response, "게시글을 가져왔습니다."));
+    }
+
+    /**
+     * 전체 게시글(댓글 포함)을 NDJSON 으로 내려준다. 본문은 MVC 비동기 스레드에서 DB 커서를 따라 쓰인다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        StreamingResponseBody body = postExportService::exportPosts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(body);
+    }
+}
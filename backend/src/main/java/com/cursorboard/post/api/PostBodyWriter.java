@@ -0,0 +1,94 @@
+package com.cursorboard.post.api;
+
+import com.cursorboard.common.ApiResponse;
+import com.cursorboard.post.application.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 상세 응답 본문(ApiResponse JSON)을 인코딩(identity/gzip)별로 직렬화/압축해 서블릿 출력 스트림에 그대로 쓴다.
+ * 본문은 PostDetailCache 의 상세 항목에 함께 보관되므로 상세와 같은 시점(변경 이벤트 커밋)에 지워지고,
+ * 조회수 flush 때는 다시 직렬화된다.
+ */
+@Component
+public class PostBodyWriter {
+
+    static final String MESSAGE = "게시글을 조회했습니다.";
+
+    private static final String IDENTITY = "identity";
+    private static final String GZIP = "gzip";
+
+    private final PostService postService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public PostBodyWriter(
+            PostService postService,
+            ObjectMapper objectMapper,
+            @Value("${board.cache.post-body.enabled:false}") boolean enabled) {
+        this.postService = postService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void write(Long postId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request);
+        byte[] body = postService.getPostBody(postId, gzip ? GZIP : IDENTITY,
+                post -> serialize(ApiResponse.success(post, MESSAGE), gzip));
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private byte[] serialize(Object value, boolean gzip) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            if (!gzip) {
+                return json;
+            }
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(json);
+            }
+            return compressed.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Accept-Encoding 에 q=0 이 아닌 gzip 이 있는지만 본다.
+     */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (header == null) {
+            return false;
+        }
+        for (String part : header.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase(GZIP)) {
+                return tokens.length == 1 || !tokens[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
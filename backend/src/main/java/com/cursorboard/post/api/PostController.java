@@ -1,17 +1,31 @@
 package com.cursorboard.post.api;
 
 import com.cursorboard.common.ApiResponse;
+import com.cursorboard.common.CursorPage;
 import com.cursorboard.post.api.request.CommentRequest;
 import com.cursorboard.post.api.response.CommentResponse;
 import com.cursorboard.post.api.request.PostRequest;
 import com.cursorboard.post.api.response.PostResponse;
+import com.cursorboard.post.api.response.PostSummaryResponse;
+import com.cursorboard.post.api.response.TrendingPostResponse;
 import com.cursorboard.post.application.PostService;
+import com.cursorboard.post.application.PostStreamService;
+import com.cursorboard.post.domain.PostVersion;
+import com.cursorboard.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -20,63 +34,135 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostStreamService postStreamService;
+    private final PostBodyWriter postBodyWriter;
 
     @PostMapping
     public ResponseEntity<ApiResponse<PostResponse>> createPost(
-            Authentication authentication,
+            @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody PostRequest request) {
-        String email = authentication.getName();
-        PostResponse response = postService.createPost(email, request);
+        PostResponse response = postService.createPost(principal, request);
         return ResponseEntity.ok(ApiResponse.success(response, "게시글이 작성되었습니다."));
     }
 
     @PutMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostResponse>> updatePost(
-            Authentication authentication,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long postId,
             @Valid @RequestBody PostRequest request) {
-        String email = authentication.getName();
-        PostResponse response = postService.updatePost(email, postId, request);
+        PostResponse response = postService.updatePost(principal, postId, request);
         return ResponseEntity.ok(ApiResponse.success(response, "게시글이 수정되었습니다."));
     }
 
     @DeleteMapping("/{postId}")
     public ResponseEntity<ApiResponse<Void>> deletePost(
-            Authentication authentication,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long postId) {
-        String email = authentication.getName();
-        postService.deletePost(email, postId);
+        postService.deletePost(principal, postId);
         return ResponseEntity.ok(ApiResponse.success("게시글이 삭제되었습니다."));
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PostResponse>>> getAllPosts() {
-        List<PostResponse> posts = postService.getAllPosts();
+    public ResponseEntity<ApiResponse<CursorPage<PostSummaryResponse>>> getPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        CursorPage<PostSummaryResponse> posts = postService.getPosts(cursor, limit);
+        // 삭제나 댓글 변경은 목록의 max(updatedAt) 를 움직이지 않으므로 Last-Modified 없이 ETag 로만 판단한다.
+        if (webRequest.checkNotModified(toETag(posts))) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success(posts, "게시글 목록을 조회했습니다."));
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingPostResponse>>> getTrendingPosts(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<TrendingPostResponse> posts = postService.getTrendingPosts(limit);
+        return ResponseEntity.ok(ApiResponse.success(posts, "인기 게시글을 조회했습니다."));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<PostSummaryResponse>>> searchPosts(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<PostSummaryResponse> posts = postService.searchPosts(query, limit);
+        return ResponseEntity.ok(ApiResponse.success(posts, "게시글을 검색했습니다."));
+    }
+
+    /**
+     * 새 게시글/댓글과 수정/삭제 알림을 SSE 로 보낸다. 목록 폴링 대신 사용한다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPosts() {
+        return streamResponse(postStreamService.subscribeFeed());
+    }
+
+    @GetMapping(value = "/{postId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPost(@PathVariable Long postId) {
+        postService.getPostVersion(postId);
+        return streamResponse(postStreamService.subscribePost(postId));
+    }
+
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<PostResponse>> getPost(@PathVariable Long postId) {
+    public ResponseEntity<ApiResponse<PostResponse>> getPost(@PathVariable Long postId, WebRequest webRequest,
+                                                             HttpServletRequest request,
+                                                             HttpServletResponse response) throws IOException {
+        PostVersion version = postService.getPostVersion(postId);
+        // 댓글 삭제는 updatedAt 을 바꾸지 않고 마지막 댓글 시각을 되돌릴 수도 있으므로 Last-Modified 없이 ETag 로만 판단한다.
+        if (webRequest.checkNotModified(version.toETag())) {
+            return null;
+        }
+        if (postBodyWriter.isEnabled()) {
+            postBodyWriter.write(postId, request, response);
+            return null;
+        }
         PostResponse post = postService.getPost(postId);
-        return ResponseEntity.ok(ApiResponse.success(post, "게시글을 조회했습니다."));
+        return ResponseEntity.ok(ApiResponse.success(post, PostBodyWriter.MESSAGE));
+    }
+
+    @GetMapping("/{postId}/comments")
+    public ResponseEntity<ApiResponse<CursorPage<CommentResponse>>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<CommentResponse> comments = postService.getComments(postId, cursor, limit);
+        return ResponseEntity.ok(ApiResponse.success(comments, "댓글 목록을 조회했습니다."));
     }
 
     @PostMapping("/{postId}/comments")
     public ResponseEntity<ApiResponse<CommentResponse>> createComment(
-            Authentication authentication,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long postId,
             @Valid @RequestBody CommentRequest request) {
-        String email = authentication.getName();
-        CommentResponse response = postService.createComment(email, postId, request);
+        CommentResponse response = postService.createComment(principal, postId, request);
         return ResponseEntity.ok(ApiResponse.success(response, "댓글이 작성되었습니다."));
     }
 
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
-            Authentication authentication,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long commentId) {
-        String email = authentication.getName();
-        postService.deleteComment(email, commentId);
+        postService.deleteComment(principal, commentId);
         return ResponseEntity.ok(ApiResponse.success("댓글이 삭제되었습니다."));
     }
-} 
\ No newline at end of file
+
+    private ResponseEntity<SseEmitter> streamResponse(SseEmitter emitter) {
+        // nginx 등 리버스 프록시가 이벤트를 버퍼링하지 않도록 한다.
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .header("Cache-Control", "no-cache")
+                .body(emitter);
+    }
+
+    private String toETag(CursorPage<PostSummaryResponse> posts) {
+        StringBuilder source = new StringBuilder();
+        for (PostSummaryResponse post : posts.getItems()) {
+            source.append(post.getId()).append(':')
+                    .append(post.getUpdatedAt()).append(':')
+                    .append(post.getCommentCount()).append(';');
+        }
+        source.append(posts.getNextCursor());
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,13 @@
+package com.cursorboard.post.api.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentImportRequest {
+    private String content;
+    private String authorEmail;
+}
@@ -0,0 +1,21 @@
+package com.cursorboard.post.api.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가져오기 NDJSON 의 한 줄. authorEmail 을 생략하면 가져오기를 실행한 관리자가 작성자가 된다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportRequest {
+    private String title;
+    private String content;
+    private String authorEmail;
+    private List<CommentImportRequest> comments = new ArrayList<>();
+}
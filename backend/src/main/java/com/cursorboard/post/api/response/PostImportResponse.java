@@ -0,0 +1,11 @@
+package com.cursorboard.post.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostImportResponse {
+    private long importedPosts;
+    private long importedComments;
+}
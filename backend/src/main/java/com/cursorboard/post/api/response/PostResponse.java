@@ -2,6 +2,7 @@ package com.cursorboard.post.api.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.With;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,7 +14,11 @@ public class PostResponse {
     private String title;
     private String content;
     private String authorEmail;
+    private long commentCount;
+    @With
+    private long viewCount;
     private List<CommentResponse> comments;
+    private String nextCommentCursor;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 } 
\ No newline at end of file
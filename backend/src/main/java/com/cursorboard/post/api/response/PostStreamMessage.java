@@ -0,0 +1,15 @@
+package com.cursorboard.post.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SSE data 필드로 내보내는 변경 알림. data 는 작성 이벤트에만 있고, 나머지는 postId 로 다시 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostStreamMessage {
+    private final String type;
+    private final Long postId;
+    private final Object data;
+}
@@ -0,0 +1,16 @@
+package com.cursorboard.post.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class TrendingPostResponse {
+    private Long id;
+    private String title;
+    private String authorEmail;
+    private double score;
+    private LocalDateTime createdAt;
+}
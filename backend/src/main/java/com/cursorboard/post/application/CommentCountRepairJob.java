@@ -0,0 +1,54 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.infrastructure.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * posts.comment_count 를 comments 테이블 기준으로 다시 계산한다.
+ * id 구간 단위로 트랜잭션을 나눠 한 번에 잡는 락의 범위를 배치 크기로 제한한다.
+ */
+@Slf4j
+@Component
+public class CommentCountRepairJob {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public CommentCountRepairJob(
+            PostRepository postRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${board.comment-count.repair.batch-size:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${board.comment-count.repair.cron:0 30 4 * * *}")
+    public void run() {
+        repairAll();
+    }
+
+    public int repairAll() {
+        Long minId = postRepository.findMinId();
+        Long maxId = postRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+            long from = fromId;
+            long to = Math.min(fromId + batchSize - 1, maxId);
+            Integer updated = transactionTemplate.execute(status -> postRepository.recountCommentCounts(from, to));
+            repaired += updated == null ? 0 : updated;
+        }
+
+        log.info("Recounted comment counts for {} posts (id {} ~ {})", repaired, minId, maxId);
+        return repaired;
+    }
+}
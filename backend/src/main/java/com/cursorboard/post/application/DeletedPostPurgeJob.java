@@ -0,0 +1,109 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.infrastructure.CommentRepository;
+import com.cursorboard.post.infrastructure.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제 표시된 게시글의 댓글을 chunk-size 건씩 별도 트랜잭션으로 지운 뒤 게시글 행을 지운다.
+ * 중간에 실패한 게시글은 다음 실행에서 남은 댓글부터 이어서 지운다.
+ */
+@Slf4j
+@Component
+public class DeletedPostPurgeJob {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int chunkSize;
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter purgedPosts;
+    private final Counter purgedComments;
+    private final Counter failures;
+    private final Timer duration;
+
+    public DeletedPostPurgeJob(
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${board.post-purge.batch-size:100}") int batchSize,
+            @Value("${board.post-purge.chunk-size:1000}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        Gauge.builder("board.post.purge.pending", pending, AtomicLong::get)
+                .description("물리 삭제를 기다리는 게시글 수")
+                .register(meterRegistry);
+        this.purgedPosts = Counter.builder("board.post.purge.posts").register(meterRegistry);
+        this.purgedComments = Counter.builder("board.post.purge.comments").register(meterRegistry);
+        this.failures = Counter.builder("board.post.purge.failures").register(meterRegistry);
+        this.duration = Timer.builder("board.post.purge.duration").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${board.post-purge.interval:PT1M}")
+    public void run() {
+        duration.record(this::purgeAll);
+    }
+
+    public int purgeAll() {
+        pending.set(postRepository.countDeleted());
+        int purged = 0;
+        List<Long> postIds = postRepository.findDeletedIds(batchSize);
+        while (!postIds.isEmpty()) {
+            int purgedInBatch = 0;
+            for (Long postId : postIds) {
+                if (purge(postId)) {
+                    purgedInBatch++;
+                }
+            }
+            purged += purgedInBatch;
+            if (purgedInBatch == 0) {
+                break;
+            }
+            postIds = postRepository.findDeletedIds(batchSize);
+        }
+        if (purged > 0) {
+            log.info("Purged {} deleted posts", purged);
+        }
+        return purged;
+    }
+
+    private boolean purge(Long postId) {
+        try {
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> commentRepository.deleteChunkByPostId(postId, chunkSize));
+                purgedComments.increment(deleted);
+            } while (deleted == chunkSize);
+
+            Integer removed = transactionTemplate.execute(status -> postRepository.purgeDeleted(postId));
+            if (removed != null && removed > 0) {
+                purgedPosts.increment();
+                pending.decrementAndGet();
+                return true;
+            }
+            return false;
+        } catch (DataAccessException e) {
+            // 청크 삭제 중 새 댓글이 들어와 FK 위반이 나는 등 실패해도 다음 게시글은 계속 지운다.
+            failures.increment();
+            log.warn("Failed to purge deleted post {}", postId, e);
+            return false;
+        }
+    }
+}
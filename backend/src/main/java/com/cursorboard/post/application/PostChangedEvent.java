@@ -0,0 +1,25 @@
+package com.cursorboard.post.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 또는 댓글이 변경되었음을 알리는 이벤트. 캐시 등 파생 데이터는 커밋 이후 이 이벤트로 갱신한다.
+ * payload 는 실시간 스트림으로 내보낼 응답(PostSummaryResponse, CommentResponse)이며 삭제 이벤트에는 없다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    public enum Type {
+        POST_CREATED, POST_UPDATED, POST_DELETED, COMMENT_CREATED, COMMENT_DELETED
+    }
+
+    private final Type type;
+    private final Long postId;
+    private final Object payload;
+
+    public PostChangedEvent(Type type, Long postId) {
+        this(type, postId, null);
+    }
+}
@@ -0,0 +1,138 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.api.response.PostResponse;
+import com.cursorboard.post.domain.PostVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 응답과 조건부 GET 용 버전 정보 캐시. 게시글/댓글 변경 이벤트가 커밋된 뒤 해당 게시글 항목만 제거한다.
+ * 상세 항목에는 인코딩별로 직렬화한 응답 본문도 함께 담아 상세와 같이 적재/제거되게 한다.
+ * board.cache.post-detail.enabled=false 이면 항상 loader 를 호출한다.
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<Long, Entry> cache;
+    private final Cache<Long, PostVersion> versionCache;
+    private final Counter bodyHits;
+    private final Counter bodyMisses;
+    // 조회수 flush 마다 올라가는 세대. 항목은 적재를 마친 시점의 세대를 기억한다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostDetailCache(
+            @Value("${board.cache.post-detail.enabled:true}") boolean enabled,
+            @Value("${board.cache.post-detail.maximum-size:10000}") long maximumSize,
+            @Value("${board.cache.post-detail.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.bodyHits = Counter.builder("board.cache.post_body").tag("result", "hit").register(meterRegistry);
+        this.bodyMisses = Counter.builder("board.cache.post_body").tag("result", "miss").register(meterRegistry);
+        if (!enabled) {
+            this.cache = null;
+            this.versionCache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.versionCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+        CaffeineCacheMetrics.monitor(meterRegistry, versionCache, "postVersion");
+    }
+
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        if (cache == null) {
+            return loader.apply(postId);
+        }
+        return cache.get(postId, id -> newEntry(loader.apply(id))).post();
+    }
+
+    /**
+     * 상세를 encoding 별로 직렬화한 본문. 본문은 처음 요청될 때 Caffeine compute 밖에서 만들어 항목에 붙인다.
+     * 항목이 그 사이 교체되었다면 옛 항목에 붙을 뿐이라 새 항목에 옛 본문이 들어가지 않는다.
+     */
+    public byte[] getBody(Long postId, String encoding, Function<Long, PostResponse> loader,
+                          Function<PostResponse, byte[]> serializer) {
+        if (cache == null) {
+            return serializer.apply(loader.apply(postId));
+        }
+        Entry entry = cache.get(postId, id -> newEntry(loader.apply(id)));
+        byte[] body = entry.bodies().get(encoding);
+        if (body != null) {
+            bodyHits.increment();
+            return body;
+        }
+        bodyMisses.increment();
+        body = serializer.apply(entry.post());
+        entry.bodies().putIfAbsent(encoding, body);
+        return body;
+    }
+
+    public PostVersion getVersion(Long postId, Function<Long, PostVersion> loader) {
+        if (versionCache == null) {
+            return loader.apply(postId);
+        }
+        return versionCache.get(postId, loader);
+    }
+
+    public void evict(Long postId) {
+        if (cache != null) {
+            cache.invalidate(postId);
+            versionCache.invalidate(postId);
+        }
+    }
+
+    /**
+     * 조회수 flush 가 UPDATE 를 실행하기 전에 호출해 세대를 올린다. 돌려준 값을 addViews 에 넘긴다.
+     */
+    public long beginViewFlush() {
+        return generation.incrementAndGet();
+    }
+
+    /**
+     * flush 된 조회수를 캐시된 상세에 더한다. 조회수는 버전(ETag)에 포함되지 않으므로 버전 캐시는 그대로 둔다.
+     * flush 시작 전에 적재를 마친 항목만 더하고, 그 뒤에 적재된 항목은 커밋된 조회수를 이미 읽었을 수 있으므로 지운다.
+     * 직렬화된 본문은 조회수가 달라졌으므로 버리고 다음 요청에서 다시 만든다.
+     */
+    public void addViews(Long postId, long delta, long flushGeneration) {
+        if (cache != null) {
+            cache.asMap().computeIfPresent(postId, (id, entry) -> entry.generation() < flushGeneration
+                    ? new Entry(entry.post().withViewCount(entry.post().getViewCount() + delta), entry.generation())
+                    : null);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evict(event.getPostId());
+    }
+
+    private Entry newEntry(PostResponse post) {
+        return new Entry(post, generation.get());
+    }
+
+    private record Entry(PostResponse post, Map<String, byte[]> bodies, long generation) {
+
+        private Entry(PostResponse post, long generation) {
+            this(post, new ConcurrentHashMap<>(4), generation);
+        }
+    }
+}
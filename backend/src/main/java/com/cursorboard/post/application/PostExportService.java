@@ -0,0 +1,96 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.infrastructure.PostExportRow;
+import com.cursorboard.post.infrastructure.PostRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 전체 게시글을 댓글과 함께 한 줄에 하나씩 NDJSON 으로 쓴다. 가져오기(PostImportService)의 입력 형식과 호환된다.
+ * DB 커서에서 읽은 행을 곧바로 JsonGenerator 로 쓰므로 데이터 양과 무관하게 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+
+    public void exportPosts(OutputStream output) throws IOException {
+        long exportedPosts = 0;
+        long exportedComments = 0;
+        try (Stream<PostExportRow> rows = postRepository.streamExportRows();
+             JsonGenerator generator = objectMapper.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+
+            Long currentPostId = null;
+            Iterator<PostExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                PostExportRow row = iterator.next();
+                if (!Objects.equals(row.getPostId(), currentPostId)) {
+                    if (currentPostId != null) {
+                        endPost(generator);
+                        if (++exportedPosts % FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    }
+                    startPost(generator, row);
+                    currentPostId = row.getPostId();
+                }
+                if (row.getCommentId() != null) {
+                    writeComment(generator, row);
+                    exportedComments++;
+                }
+            }
+            if (currentPostId != null) {
+                endPost(generator);
+                exportedPosts++;
+            }
+        }
+        log.info("Exported {} posts with {} comments", exportedPosts, exportedComments);
+    }
+
+    private void startPost(JsonGenerator generator, PostExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getPostId());
+        generator.writeStringField("title", row.getTitle());
+        generator.writeStringField("content", row.getContent());
+        generator.writeStringField("authorEmail", row.getAuthorEmail());
+        generator.writeNumberField("commentCount", row.getCommentCount());
+        generator.writeNumberField("viewCount", row.getViewCount());
+        generator.writeObjectField("createdAt", row.getCreatedAt());
+        generator.writeObjectField("updatedAt", row.getUpdatedAt());
+        generator.writeArrayFieldStart("comments");
+    }
+
+    private void writeComment(JsonGenerator generator, PostExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getCommentId());
+        generator.writeStringField("content", row.getCommentContent());
+        generator.writeStringField("authorEmail", row.getCommentAuthorEmail());
+        generator.writeObjectField("createdAt", row.getCommentCreatedAt());
+        generator.writeEndObject();
+    }
+
+    private void endPost(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,139 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.api.request.CommentImportRequest;
+import com.cursorboard.post.api.request.PostImportRequest;
+import com.cursorboard.post.api.response.PostImportResponse;
+import com.cursorboard.post.domain.Comment;
+import com.cursorboard.post.domain.Post;
+import com.cursorboard.post.infrastructure.PostRepository;
+import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.security.UserPrincipalCache;
+import com.cursorboard.user.domain.User;
+import com.cursorboard.user.infrastructure.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON 으로 들어오는 게시글(댓글 포함)을 한 줄씩 읽어 chunk-size 건마다 별도 트랜잭션으로 저장한다.
+ * 입력 전체를 메모리에 올리지 않으며, 중간에 실패해도 앞서 커밋된 chunk 는 그대로 남는다.
+ */
+@Slf4j
+@Service
+public class PostImportService {
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader reader;
+    private final int chunkSize;
+
+    public PostImportService(
+            PostRepository postRepository,
+            UserRepository userRepository,
+            UserPrincipalCache userPrincipalCache,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${board.import.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.reader = objectMapper.readerFor(PostImportRequest.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public PostImportResponse importPosts(UserPrincipal importer, InputStream input) throws IOException {
+        long importedPosts = 0;
+        long importedComments = 0;
+        List<PostImportRequest> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<PostImportRequest> records = reader.readValues(input)) {
+            while (true) {
+                PostImportRequest record;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    record = records.nextValue();
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException(failureMessage(importedPosts + chunk.size() + 1, importedPosts), e);
+                }
+                validate(record, importedPosts + chunk.size() + 1, importedPosts);
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    importedComments += saveChunk(chunk, importer, importedPosts);
+                    importedPosts += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importedComments += saveChunk(chunk, importer, importedPosts);
+            importedPosts += chunk.size();
+        }
+        log.info("Imported {} posts with {} comments", importedPosts, importedComments);
+        return new PostImportResponse(importedPosts, importedComments);
+    }
+
+    private int saveChunk(List<PostImportRequest> chunk, UserPrincipal importer, long committed) {
+        Integer comments = transactionTemplate.execute(status -> {
+            List<Post> posts = new ArrayList<>(chunk.size());
+            int commentCount = 0;
+            for (int i = 0; i < chunk.size(); i++) {
+                PostImportRequest record = chunk.get(i);
+                long line = committed + i + 1;
+                Post post = new Post(record.getTitle(), record.getContent(), author(record.getAuthorEmail(), importer, line, committed));
+                for (CommentImportRequest comment : record.getComments()) {
+                    post.addImportedComment(new Comment(comment.getContent(), author(comment.getAuthorEmail(), importer, line, committed), post));
+                    commentCount++;
+                }
+                posts.add(post);
+            }
+            postRepository.saveAll(posts);
+            postRepository.flush();
+            eventPublisher.publishEvent(new PostsImportedEvent(posts.stream().map(Post::getId).toList()));
+            return commentCount;
+        });
+        return comments == null ? 0 : comments;
+    }
+
+    private User author(String email, UserPrincipal importer, long line, long committed) {
+        if (!StringUtils.hasText(email) || email.equals(importer.getEmail())) {
+            return userRepository.getReferenceById(importer.getId());
+        }
+        UserPrincipal author = userPrincipalCache.get(email)
+            .orElseThrow(() -> new IllegalArgumentException(failureMessage(line, committed) + " 사용자를 찾을 수 없습니다: " + email));
+        return userRepository.getReferenceById(author.getId());
+    }
+
+    private void validate(PostImportRequest record, long line, long committed) {
+        boolean valid = record != null
+            && StringUtils.hasText(record.getTitle())
+            && StringUtils.hasText(record.getContent())
+            && record.getComments() != null
+            && record.getComments().stream().allMatch(comment -> comment != null && StringUtils.hasText(comment.getContent()));
+        if (!valid) {
+            throw new IllegalArgumentException(failureMessage(line, committed) + " 제목, 내용, 댓글 내용은 필수입니다.");
+        }
+    }
+
+    private static String failureMessage(long line, long committed) {
+        return line + "번째 게시글을 가져오지 못했습니다. (앞선 " + committed + "건은 저장됨)";
+    }
+}
@@ -0,0 +1,42 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.infrastructure.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게시글 변경/가져오기 이벤트를 검색 색인 갱신으로 옮긴다.
+ * 색인 갱신은 본문을 다시 읽어야 하므로 커밋 후 요청 스레드가 아닌 작업 실행기에서 처리한다.
+ * 순서가 뒤바뀌어도 색인이 수정 시각이 더 오래된 문서와 이미 삭제된 문서를 무시하므로 최종 상태는 같다.
+ * (삭제 커밋 전에 문서를 읽은 수정 처리가 remove 뒤에 put 하더라도 tombstone 때문에 되살아나지 않는다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexListener {
+
+    private final PostSearchIndex postSearchIndex;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case POST_CREATED, POST_UPDATED -> postSearchIndex.reindex(List.of(event.getPostId()));
+            case POST_DELETED -> postSearchIndex.remove(event.getPostId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 가져오기는 chunk 단위로 한 번에 다시 색인한다.
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsImported(PostsImportedEvent event) {
+        postSearchIndex.reindex(event.getPostIds());
+    }
+}
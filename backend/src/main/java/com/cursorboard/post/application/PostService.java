@@ -1,21 +1,37 @@
 package com.cursorboard.post.application;
 
+import com.cursorboard.common.Cursor;
+import com.cursorboard.common.CursorPage;
 import com.cursorboard.post.api.request.CommentRequest;
 import com.cursorboard.post.api.response.CommentResponse;
 import com.cursorboard.post.api.request.PostRequest;
 import com.cursorboard.post.api.response.PostResponse;
+import com.cursorboard.post.api.response.PostSummaryResponse;
+import com.cursorboard.post.api.response.TrendingPostResponse;
 import com.cursorboard.post.domain.Comment;
 import com.cursorboard.post.domain.Post;
+import com.cursorboard.post.domain.PostVersion;
 import com.cursorboard.post.infrastructure.CommentRepository;
 import com.cursorboard.post.infrastructure.PostRepository;
+import com.cursorboard.post.infrastructure.search.PostSearchIndex;
+import com.cursorboard.security.UserPrincipal;
 import com.cursorboard.user.domain.User;
-import com.cursorboard.user.domain.UserRole;
 import com.cursorboard.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,114 +39,218 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int COMMENT_PAGE_SIZE = 20;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final PostDetailCache postDetailCache;
+    @Qualifier("primaryReadTransactionTemplate")
+    private final TransactionTemplate primaryReadTransactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostSearchIndex postSearchIndex;
+    private final ViewCountBuffer viewCountBuffer;
+    private final TrendingRanking trendingRanking;
 
     @Transactional
-    public PostResponse createPost(String email, PostRequest request) {
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    public PostResponse createPost(UserPrincipal principal, PostRequest request) {
+        User user = userRepository.getReferenceById(principal.getId());
 
         Post post = new Post(request.getTitle(), request.getContent(), user);
         postRepository.save(post);
+        PostSummaryResponse summary = new PostSummaryResponse(post.getId(), post.getTitle(), principal.getEmail(),
+            0L, 0L, post.getCreatedAt(), post.getUpdatedAt());
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.POST_CREATED, post.getId(), summary));
 
-        return convertToPostResponse(post);
+        return convertToPostResponse(post, principal.getEmail(), new CursorPage<>(List.of(), null));
     }
 
     @Transactional
-    public PostResponse updatePost(String email, Long postId, PostRequest request) {
-        Post post = postRepository.findById(postId)
+    public PostResponse updatePost(UserPrincipal principal, Long postId, PostRequest request) {
+        Post post = postRepository.findWithUserById(postId)
             .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        if (!post.getUser().equals(user) && user.getRole() != UserRole.ADMIN) {
-            throw new IllegalArgumentException("게시글을 수정할 권한이 없습니다.");
-        }
+        checkOwnerOrAdmin(post.getUser(), principal, "게시글을 수정할 권한이 없습니다.");
 
         post.update(request.getTitle(), request.getContent());
-        return convertToPostResponse(post);
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.POST_UPDATED, postId));
+        return convertToPostResponse(post, post.getUser().getEmail(), findComments(postId, null, COMMENT_PAGE_SIZE));
     }
 
     @Transactional
-    public void deletePost(String email, Long postId) {
+    public void deletePost(UserPrincipal principal, Long postId) {
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        checkOwnerOrAdmin(post.getUser(), principal, "게시글을 삭제할 권한이 없습니다.");
 
-        if (!post.getUser().equals(user) || user.getRole() != UserRole.ADMIN) {
-            throw new IllegalArgumentException("게시글을 삭제할 권한이 없습니다.");
-        }
+        // 댓글을 한 건씩 지우지 않도록 표시만 하고, 실제 삭제는 DeletedPostPurgeJob 이 청크 단위로 한다.
+        post.delete();
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.POST_DELETED, postId));
+    }
+
+    public CursorPage<PostSummaryResponse> getPosts(String cursor, int limit) {
+        int size = normalizeLimit(limit);
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<PostSummaryResponse> rows = cursor == null
+            ? postRepository.findSummaries(pageable)
+            : findSummariesAfter(Cursor.decode(cursor), pageable);
+
+        return CursorPage.of(rows, size, post -> new Cursor(post.getCreatedAt(), post.getId()));
+    }
 
-        postRepository.delete(post);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TrendingPostResponse> getTrendingPosts(int limit) {
+        return trendingRanking.top(normalizeLimit(limit));
     }
 
-    public List<PostResponse> getAllPosts() {
-        return postRepository.findAll().stream()
-            .map(this::convertToPostResponse)
+    public List<PostSummaryResponse> searchPosts(String query, int limit) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        List<Long> postIds = postSearchIndex.search(query, normalizeLimit(limit));
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummaryResponse> summaries = postRepository.findSummariesByIdIn(postIds).stream()
+            .collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+        return postIds.stream()
+            .map(summaries::get)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
 
+    /**
+     * 캐시 적중 시에는 트랜잭션(커넥션)을 열지 않고, 미스일 때만 읽기 트랜잭션으로 적재한다.
+     * 변경 커밋 직후의 적재가 복제 지연된 옛 값을 TTL 동안 캐시하지 않도록 primary 에서 읽는다.
+     * 조회수는 DB 에 반영된 값에 아직 flush 되지 않은 증가분을 더해 돌려준다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PostResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
-            .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-        return convertToPostResponse(post);
+        PostResponse post = postDetailCache.get(postId, id -> primaryReadTransactionTemplate.execute(status -> loadPost(id)));
+        viewCountBuffer.increment(postId);
+        return post.withViewCount(post.getViewCount() + viewCountBuffer.pendingCount(postId));
+    }
+
+    /**
+     * getPost 와 같지만 응답을 encoding 별로 직렬화한 본문을 상세 캐시 항목에 붙여 재사용한다.
+     * 조회수는 getPost 처럼 게시글을 읽은 뒤에 올리므로 없는 글은 세지 않는다.
+     * 본문의 조회수는 직렬화 시점 값이라 다음 flush(캐시 항목 교체) 전까지 늦을 수 있다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public byte[] getPostBody(Long postId, String encoding, Function<PostResponse, byte[]> serializer) {
+        byte[] body = postDetailCache.getBody(postId, encoding,
+            id -> primaryReadTransactionTemplate.execute(status -> loadPost(id)),
+            post -> serializer.apply(post.withViewCount(post.getViewCount() + viewCountBuffer.pendingCount(postId))));
+        viewCountBuffer.increment(postId);
+        return body;
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostVersion getPostVersion(Long postId) {
+        return postDetailCache.getVersion(postId, id -> primaryReadTransactionTemplate.execute(status ->
+            postRepository.findVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."))));
+    }
+
+    public CursorPage<CommentResponse> getComments(Long postId, String cursor, int limit) {
+        CursorPage<CommentResponse> page = findComments(postId, cursor, normalizeLimit(limit));
+        if (page.getItems().isEmpty() && !postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+        return page;
     }
 
     @Transactional
-    public CommentResponse createComment(String email, Long postId, CommentRequest request) {
+    public CommentResponse createComment(UserPrincipal principal, Long postId, CommentRequest request) {
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(principal.getId());
 
         Comment comment = new Comment(request.getContent(), user, post);
         commentRepository.save(comment);
+        postRepository.incrementCommentCount(postId);
+        CommentResponse response = convertToCommentResponse(comment, principal.getEmail());
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.COMMENT_CREATED, postId, response));
 
-        return convertToCommentResponse(comment);
+        return response;
     }
 
     @Transactional
-    public void deleteComment(String email, Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+    public void deleteComment(UserPrincipal principal, Long commentId) {
+        Comment comment = commentRepository.findLiveById(commentId)
             .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
 
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        checkOwnerOrAdmin(comment.getUser(), principal, "댓글을 삭제할 권한이 없습니다.");
+
+        commentRepository.delete(comment);
+        Long postId = comment.getPost().getId();
+        postRepository.decrementCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.COMMENT_DELETED, postId));
+    }
+
+    private List<PostSummaryResponse> findSummariesAfter(Cursor cursor, Pageable pageable) {
+        return postRepository.findSummariesAfter(cursor.getCreatedAt(), cursor.getId(), pageable);
+    }
 
-        if (!comment.getUser().equals(user) && user.getRole() != UserRole.ADMIN) {
-            throw new IllegalArgumentException("댓글을 삭제할 권한이 없습니다.");
+    private PostResponse loadPost(Long postId) {
+        Post post = postRepository.findWithUserById(postId)
+            .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        return convertToPostResponse(post, post.getUser().getEmail(), findComments(postId, null, COMMENT_PAGE_SIZE));
+    }
+
+    private CursorPage<CommentResponse> findComments(Long postId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<CommentResponse> rows;
+        if (cursor == null) {
+            rows = commentRepository.findResponses(postId, pageable);
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            rows = commentRepository.findResponsesAfter(postId, position.getCreatedAt(), position.getId(), pageable);
         }
+        return CursorPage.of(rows, size, comment -> new Cursor(comment.getCreatedAt(), comment.getId()));
+    }
 
-        commentRepository.delete(comment);
+    private int normalizeLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
     }
 
-    private PostResponse convertToPostResponse(Post post) {
-        List<CommentResponse> commentResponses = post.getComments().stream()
-            .map(this::convertToCommentResponse)
-            .collect(Collectors.toList());
+    /**
+     * 토큰에 담긴 id/권한으로 확인한다. 지연 로딩 프록시의 getId() 는 select 를 일으키지 않는다.
+     */
+    private static void checkOwnerOrAdmin(User owner, UserPrincipal principal, String message) {
+        if (!owner.getId().equals(principal.getId()) && !principal.isAdmin()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
 
+    /**
+     * 작성자 이메일은 토큰이나 join fetch 로 이미 알고 있으므로 따로 받아 User 프록시를 초기화하지 않는다.
+     * JMH 벤치마크(PostResponseBenchmark)가 직접 호출하므로 package-private static 이다.
+     */
+    static PostResponse convertToPostResponse(Post post, String authorEmail, CursorPage<CommentResponse> comments) {
         return new PostResponse(
             post.getId(),
             post.getTitle(),
             post.getContent(),
-            post.getUser().getEmail(),
-            commentResponses,
+            authorEmail,
+            post.getCommentCount(),
+            post.getViewCount(),
+            comments.getItems(),
+            comments.getNextCursor(),
             post.getCreatedAt(),
             post.getUpdatedAt()
         );
     }
 
-    private CommentResponse convertToCommentResponse(Comment comment) {
+    static CommentResponse convertToCommentResponse(Comment comment, String authorEmail) {
         return new CommentResponse(
             comment.getId(),
             comment.getContent(),
-            comment.getUser().getEmail(),
+            authorEmail,
             comment.getCreatedAt()
         );
     }
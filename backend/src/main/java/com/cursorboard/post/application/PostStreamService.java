@@ -0,0 +1,207 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.api.response.PostStreamMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시판 전체(feed)와 게시글별 SSE 구독을 관리한다.
+ * 커밋된 변경 이벤트를 한 번만 직렬화해 구독자마다 크기가 제한된 큐에 넣고, 전송은 구독자별 가상 스레드가 맡는다.
+ * 큐가 가득 찬 느린 구독자는 연결을 끊어 다른 구독자와 발행 스레드가 기다리지 않게 한다.
+ */
+@Slf4j
+@Service
+public class PostStreamService {
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Subscriber> feedSubscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> postSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger postSubscriberCount = new AtomicInteger();
+    private final Counter messages;
+    private final Counter droppedSlow;
+    private final Counter droppedError;
+
+    public PostStreamService(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${board.stream.buffer-size:32}") int bufferSize,
+            @Value("${board.stream.timeout:PT30M}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        Gauge.builder("board.stream.subscribers", feedSubscribers, Set::size)
+                .tag("stream", "feed")
+                .register(meterRegistry);
+        Gauge.builder("board.stream.subscribers", postSubscriberCount, AtomicInteger::get)
+                .tag("stream", "post")
+                .register(meterRegistry);
+        this.messages = Counter.builder("board.stream.messages").register(meterRegistry);
+        this.droppedSlow = Counter.builder("board.stream.dropped").tag("reason", "slow").register(meterRegistry);
+        this.droppedError = Counter.builder("board.stream.dropped").tag("reason", "error").register(meterRegistry);
+    }
+
+    public SseEmitter subscribeFeed() {
+        Subscriber subscriber = new Subscriber(null);
+        feedSubscribers.add(subscriber);
+        return subscriber.start();
+    }
+
+    public SseEmitter subscribePost(Long postId) {
+        Subscriber subscriber = new Subscriber(postId);
+        postSubscribers.compute(postId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            set.add(subscriber);
+            return set;
+        });
+        postSubscriberCount.incrementAndGet();
+        return subscriber.start();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Set<Subscriber> forPost = postSubscribers.get(event.getPostId());
+        if (feedSubscribers.isEmpty() && (forPost == null || forPost.isEmpty())) {
+            return;
+        }
+        Set<DataWithMediaType> message = toMessage(event);
+        if (message == null) {
+            return;
+        }
+        messages.increment();
+        feedSubscribers.forEach(subscriber -> subscriber.offer(message));
+        if (forPost != null) {
+            forPost.forEach(subscriber -> subscriber.offer(message));
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 줄을 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${board.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        feedSubscribers.forEach(subscriber -> subscriber.offer(ping));
+        postSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(ping)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        feedSubscribers.forEach(Subscriber::close);
+        postSubscribers.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        senders.shutdown();
+    }
+
+    private Set<DataWithMediaType> toMessage(PostChangedEvent event) {
+        String type = event.getType().name().toLowerCase(Locale.ROOT).replace('_', '-');
+        try {
+            String json = objectMapper.writeValueAsString(
+                    new PostStreamMessage(type, event.getPostId(), event.getPayload()));
+            return SseEmitter.event().name(type).data(json).build();
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize stream message for post {}", event.getPostId(), e);
+            return null;
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (subscriber.postId == null) {
+            feedSubscribers.remove(subscriber);
+            return;
+        }
+        postSubscribers.computeIfPresent(subscriber.postId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                postSubscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final Long postId;
+        private final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long postId) {
+            this.postId = postId;
+        }
+
+        private SseEmitter start() {
+            emitter.onCompletion(() -> close());
+            emitter.onTimeout(() -> close());
+            emitter.onError(error -> close());
+            offer(SseEmitter.event().reconnectTime(3000).comment("connected").build());
+            return emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                droppedSlow.increment();
+                close();
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Set<DataWithMediaType> message;
+                while (!closed.get() && (message = queue.poll()) != null) {
+                    emitter.send(message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                droppedError.increment();
+                close();
+            } finally {
+                scheduled.set(false);
+                // 전송을 마친 직후 들어온 메시지가 남지 않도록 다시 확인한다.
+                if (!queue.isEmpty() && !closed.get() && scheduled.compareAndSet(false, true)) {
+                    senders.execute(this);
+                }
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                unregister(this);
+                queue.clear();
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.cursorboard.post.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 가져오기 chunk 하나가 저장되었음을 알리는 이벤트. 게시글마다 PostChangedEvent 를 내지 않고 chunk 당 한 번 발행한다.
+ * 가져온 글은 새 글 알림(SSE)이나 인기 글 점수 대상이 아니므로 검색 색인만 이 이벤트를 받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostsImportedEvent {
+
+    private final List<Long> postIds;
+}
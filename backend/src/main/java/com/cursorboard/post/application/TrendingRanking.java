@@ -0,0 +1,195 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.api.response.PostSummaryResponse;
+import com.cursorboard.post.api.response.TrendingPostResponse;
+import com.cursorboard.post.infrastructure.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 시간 감쇠 점수 기반 인기 게시글 순위.
+ *
+ * 점수는 sum(weight * 2^(-(now - t) / halfLife)) 이다. 모든 항목이 같은 비율로 감쇠하므로
+ * 기준 시각(epoch)에 대한 log(sum(weight * e^(lambda * (t - epoch)))) 값으로 정렬해도 순서가 같고,
+ * 이 값은 새 이벤트가 들어올 때만 바뀐다. 따라서 주기적인 재계산 없이 skip list 의 순서를 그대로 쓴다.
+ */
+@Slf4j
+@Component
+public class TrendingRanking {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final double MIN_SCORE = 0.01;
+
+    private final PostRepository postRepository;
+    private final Duration window;
+    private final double lambdaPerSecond;
+    private final double postWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final Instant epoch = Instant.now();
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(
+            Comparator.comparingDouble(Entry::logScore).reversed().thenComparing(Entry::postId, Comparator.reverseOrder()));
+
+    public TrendingRanking(
+            PostRepository postRepository,
+            @Value("${board.trending.half-life:PT6H}") Duration halfLife,
+            @Value("${board.trending.window:P3D}") Duration window,
+            @Value("${board.trending.weight.post:10}") double postWeight,
+            @Value("${board.trending.weight.comment:5}") double commentWeight,
+            @Value("${board.trending.weight.view:1}") double viewWeight) {
+        this.postRepository = postRepository;
+        this.window = window;
+        this.lambdaPerSecond = Math.log(2) / halfLife.toSeconds();
+        this.postWeight = postWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+    }
+
+    public List<TrendingPostResponse> top(int limit) {
+        double decay = lambdaPerSecond * secondsSinceEpoch(Instant.now());
+        List<TrendingPostResponse> result = new ArrayList<>(limit);
+        Iterator<Entry> iterator = ranking.iterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            Entry entry = iterator.next();
+            result.add(new TrendingPostResponse(entry.postId(), entry.title(), entry.authorEmail(),
+                    Math.exp(entry.logScore() - decay), entry.createdAt()));
+        }
+        return result;
+    }
+
+    public void recordViews(Long postId, long views) {
+        add(postId, viewWeight * views, Instant.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case POST_CREATED, POST_UPDATED -> postRepository.findSummariesByIdIn(List.of(event.getPostId()))
+                    .forEach(this::track);
+            case POST_DELETED -> {
+                Entry removed = entries.remove(event.getPostId());
+                if (removed != null) {
+                    ranking.remove(removed);
+                }
+            }
+            case COMMENT_CREATED -> add(event.getPostId(), commentWeight, Instant.now());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 기동 시 최근 window 안에 작성된 글로 순위를 다시 만든다.
+     * 댓글/조회 시각은 따로 보관하지 않으므로 작성 시각과 현재 시각의 중간에 발생한 것으로 근사한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Instant now = Instant.now();
+        LocalDateTime since = LocalDateTime.ofInstant(now.minus(window), ZoneId.systemDefault());
+        List<PostSummaryResponse> page = postRepository.findSummaries(PageRequest.of(0, REBUILD_BATCH_SIZE));
+        int tracked = 0;
+        while (!page.isEmpty()) {
+            for (PostSummaryResponse post : page) {
+                if (post.getCreatedAt().isBefore(since)) {
+                    log.info("Trending ranking rebuilt with {} posts", tracked);
+                    return;
+                }
+                track(post);
+                Instant createdAt = toInstant(post.getCreatedAt());
+                Instant midpoint = createdAt.plus(Duration.between(createdAt, now).dividedBy(2));
+                add(post.getId(), commentWeight * post.getCommentCount() + viewWeight * post.getViewCount(), midpoint);
+                tracked++;
+            }
+            PostSummaryResponse last = page.get(page.size() - 1);
+            page = postRepository.findSummariesAfter(last.getCreatedAt(), last.getId(),
+                    PageRequest.of(0, REBUILD_BATCH_SIZE));
+        }
+        log.info("Trending ranking rebuilt with {} posts", tracked);
+    }
+
+    /**
+     * 충분히 감쇠해 순위에 의미가 없어진 항목을 정리해 메모리를 일정하게 유지한다.
+     */
+    @Scheduled(fixedDelayString = "${board.trending.prune-interval:PT10M}")
+    public void prune() {
+        double threshold = Math.log(MIN_SCORE) + lambdaPerSecond * secondsSinceEpoch(Instant.now());
+        while (true) {
+            Entry lowest = ranking.isEmpty() ? null : ranking.last();
+            if (lowest == null || lowest.logScore() >= threshold) {
+                return;
+            }
+            entries.remove(lowest.postId(), lowest);
+            ranking.remove(lowest);
+        }
+    }
+
+    private void track(PostSummaryResponse post) {
+        entries.compute(post.getId(), (postId, existing) -> {
+            if (existing != null) {
+                ranking.remove(existing);
+                Entry updated = new Entry(postId, post.getTitle(), post.getAuthorEmail(), post.getCreatedAt(),
+                        existing.logScore());
+                ranking.add(updated);
+                return updated;
+            }
+            Entry created = new Entry(postId, post.getTitle(), post.getAuthorEmail(), post.getCreatedAt(),
+                    logWeight(postWeight, toInstant(post.getCreatedAt())));
+            ranking.add(created);
+            return created;
+        });
+    }
+
+    private void add(Long postId, double weight, Instant at) {
+        if (weight <= 0) {
+            return;
+        }
+        entries.computeIfPresent(postId, (id, existing) -> {
+            ranking.remove(existing);
+            Entry updated = existing.withLogScore(logSumExp(existing.logScore(), logWeight(weight, at)));
+            ranking.add(updated);
+            return updated;
+        });
+    }
+
+    private double logWeight(double weight, Instant at) {
+        return Math.log(weight) + lambdaPerSecond * secondsSinceEpoch(at);
+    }
+
+    private double secondsSinceEpoch(Instant at) {
+        return Duration.between(epoch, at).toMillis() / 1000.0;
+    }
+
+    private static double logSumExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log(Math.exp(a - max) + Math.exp(b - max));
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private record Entry(Long postId, String title, String authorEmail, LocalDateTime createdAt, double logScore) {
+        Entry withLogScore(double logScore) {
+            return new Entry(postId, title, authorEmail, createdAt, logScore);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.cursorboard.post.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 조회 시에는 LongAdder 만 증가시키고, 주기적으로 누적분을 posts.view_count 에 배치 UPDATE 한다.
+ * 프로세스가 비정상 종료되면 마지막 flush 이후(flush-interval 이내)의 조회수만 유실된다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "update posts set view_count = view_count + ? where id = ?";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // JDK 21 에서 synchronized 안의 JDBC I/O 는 가상 스레드를 캐리어에 고정(pinning)시키므로 ReentrantLock 을 쓴다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+    private final TrendingRanking trendingRanking;
+    private final int batchSize;
+    private final Counter flushedViews;
+    private final Timer flushTimer;
+
+    public ViewCountBuffer(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PostDetailCache postDetailCache,
+            TrendingRanking trendingRanking,
+            MeterRegistry meterRegistry,
+            @Value("${board.view-count.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postDetailCache = postDetailCache;
+        this.trendingRanking = trendingRanking;
+        this.batchSize = batchSize;
+        this.flushedViews = Counter.builder("board.view_count.flushed")
+                .description("Views written to posts.view_count")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("board.view_count.flush")
+                .description("Time spent flushing buffered view counts")
+                .register(meterRegistry);
+        meterRegistry.gauge("board.view_count.pending_posts", pending, Map::size);
+    }
+
+    /**
+     * 평소에는 맵 조회와 LongAdder 증가만 하므로 같은 글을 동시에 읽는 요청끼리 락을 다투지 않는다.
+     */
+    public void increment(Long postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수.
+     */
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:PT10S}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushPending() {
+        List<Object[]> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없던 글은 맵에서 정리한다. 지우기 직전에 이 adder 를 집어 간 증가분은
+                // 지운 뒤 남은 값으로 다시 넣는다.
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    long residual = entry.getValue().sumThenReset();
+                    if (residual > 0) {
+                        add(entry.getKey(), residual);
+                    }
+                }
+            } else {
+                deltas.add(new Object[]{delta, entry.getKey()});
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        int flushed = 0;
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Object[]> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                long generation = postDetailCache.beginViewFlush();
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+                flushed += batch.size();
+                for (Object[] row : batch) {
+                    flushedViews.increment((Long) row[0]);
+                    // 조회수는 ETag 에 들어가지 않으므로 캐시를 비우지 않고 반영된 만큼만 더한다.
+                    postDetailCache.addViews((Long) row[1], (Long) row[0], generation);
+                    trendingRanking.recordViews((Long) row[1], (Long) row[0]);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush {} view counts, keeping them for the next flush", batch.size(), e);
+                for (Object[] row : batch) {
+                    add((Long) row[1], (Long) row[0]);
+                }
+            }
+        }
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return flushed;
+    }
+
+    private void add(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Flushed view counts for {} posts on shutdown", flushed);
+    }
+}
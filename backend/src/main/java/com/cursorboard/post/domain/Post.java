@@ -4,6 +4,8 @@ import com.cursorboard.user.domain.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,13 +15,23 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_posts_deleted_at", columnList = "deleted_at")
+})
 @Getter
 @NoArgsConstructor
+@DynamicUpdate
+@SQLRestriction("deleted_at is null")
 @EntityListeners(AuditingEntityListener.class)
 public class Post {
+    /**
+     * IDENTITY 는 insert 배치를 막으므로 pooled-lo 시퀀스로 50개씩 미리 할당한다.
+     * 시퀀스가 없는 MySQL 에서는 Hibernate 가 같은 이름의 테이블로 대신 관리한다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_id_generator")
+    @SequenceGenerator(name = "post_id_generator", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -35,20 +47,53 @@ public class Post {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
+    /**
+     * 댓글 수 비정규화 컬럼. 동시 작성에도 유실되지 않도록 PostRepository 의 원자적 UPDATE 로만 변경한다.
+     * 게시글 수정 시 오래된 값을 덮어쓰지 않도록 엔티티는 @DynamicUpdate 로 변경된 컬럼만 갱신한다.
+     */
+    @Column(nullable = false)
+    private long commentCount;
+
+    /**
+     * 조회수. ViewCountBuffer 가 모아 둔 증가분을 주기적으로 더한다.
+     */
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Version
+    private long version;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    /**
+     * 삭제 시각. 값이 있으면 모든 조회에서 제외되고, 댓글과 행은 DeletedPostPurgeJob 이 나중에 지운다.
+     */
+    private LocalDateTime deletedAt;
+
     public Post(String title, String content, User user) {
         this.title = title;
         this.content = content;
         this.user = user;
     }
 
+    /**
+     * 가져오기 전용. 아직 저장되지 않은 게시글에 댓글을 붙이면서 댓글 수도 함께 맞춘다.
+     */
+    public void addImportedComment(Comment comment) {
+        this.comments.add(comment);
+        this.commentCount++;
+    }
+
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
     }
+
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.cursorboard.post.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET 검증에 필요한 값만 담은 게시글 버전 정보. 본문이나 댓글을 읽지 않는 프로브 쿼리로 채운다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostVersion {
+    private final Long postId;
+    private final Long version;
+    private final LocalDateTime updatedAt;
+    private final Long commentCount;
+    private final LocalDateTime lastCommentAt;
+
+    /**
+     * 게시글 버전, 수정 시각, 댓글 수, 마지막 댓글 시각을 조합한 강한 ETag.
+     */
+    public String toETag() {
+        return "\"" + postId + "-" + version + "-" + toEpochMilli(updatedAt)
+                + "-" + commentCount + "-" + toEpochMilli(lastCommentAt) + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
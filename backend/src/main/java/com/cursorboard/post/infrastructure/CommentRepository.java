@@ -1,7 +1,47 @@
 package com.cursorboard.post.infrastructure;
 
+import com.cursorboard.post.api.response.CommentResponse;
 import com.cursorboard.post.domain.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-} 
\ No newline at end of file
+
+    String RESPONSE_SELECT = "select new com.cursorboard.post.api.response.CommentResponse(" +
+            "c.id, c.content, u.email, c.createdAt) " +
+            "from Comment c join c.user u join c.post p ";
+
+    @Query(RESPONSE_SELECT +
+           "where c.post.id = :postId and p.deletedAt is null " +
+           "order by c.createdAt asc, c.id asc")
+    List<CommentResponse> findResponses(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT +
+           "where c.post.id = :postId and p.deletedAt is null " +
+           "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+           "order by c.createdAt asc, c.id asc")
+    List<CommentResponse> findResponsesAfter(@Param("postId") Long postId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    /**
+     * 게시글이 삭제되지 않은 댓글만 찾는다. findById 는 게시글의 삭제 여부를 보지 않는다.
+     */
+    @Query("select c from Comment c join c.post p where c.id = :id and p.deletedAt is null")
+    Optional<Comment> findLiveById(@Param("id") Long id);
+
+    /**
+     * 삭제된 게시글의 댓글을 limit 건씩 지운다. 한 번에 잡는 락과 undo 로그를 청크 크기로 제한한다.
+     */
+    @Modifying
+    @Query(value = "delete from comments where post_id = :postId limit :limit", nativeQuery = true)
+    int deleteChunkByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+}
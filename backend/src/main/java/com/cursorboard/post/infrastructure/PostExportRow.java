@@ -0,0 +1,26 @@
+package com.cursorboard.post.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글과 댓글을 left join 한 한 행. 댓글이 없는 게시글은 comment* 필드가 null 인 한 행으로 나온다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostExportRow {
+    private final Long postId;
+    private final String title;
+    private final String content;
+    private final String authorEmail;
+    private final Long commentCount;
+    private final Long viewCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long commentId;
+    private final String commentContent;
+    private final String commentAuthorEmail;
+    private final LocalDateTime commentCreatedAt;
+}
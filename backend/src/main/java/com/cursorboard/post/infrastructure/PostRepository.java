@@ -1,7 +1,100 @@
 package com.cursorboard.post.infrastructure;
 
+import com.cursorboard.post.api.response.PostSummaryResponse;
 import com.cursorboard.post.domain.Post;
+import com.cursorboard.post.domain.PostVersion;
+import com.cursorboard.post.infrastructure.search.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-} 
\ No newline at end of file
+
+    String SUMMARY_SELECT = "select new com.cursorboard.post.api.response.PostSummaryResponse(" +
+            "p.id, p.title, u.email, p.commentCount, p.viewCount, p.createdAt, p.updatedAt) " +
+            "from Post p join p.user u ";
+
+    @Query("select p from Post p join fetch p.user where p.id = :id")
+    Optional<Post> findWithUserById(@Param("id") Long id);
+
+    @Query("select new com.cursorboard.post.domain.PostVersion(" +
+           "p.id, p.version, p.updatedAt, p.commentCount, (select max(c.createdAt) from Comment c where c.post = p)) " +
+           "from Post p where p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT +
+           "order by p.createdAt desc, p.id desc")
+    List<PostSummaryResponse> findSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+           "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) " +
+           "order by p.createdAt desc, p.id desc")
+    List<PostSummaryResponse> findSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount - 1 where p.id = :postId and p.commentCount > 0")
+    int decrementCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = (select count(c) from Comment c where c.post = p) " +
+           "where p.id between :fromId and :toId")
+    int recountCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select min(p.id) from Post p")
+    Long findMinId();
+
+    @Query("select max(p.id) from Post p")
+    Long findMaxId();
+
+    @Query("select p.id, p.updatedAt from Post p where p.id > :afterId order by p.id")
+    List<Object[]> findUpdatedAtAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.cursorboard.post.infrastructure.search.SearchDocument(p.id, p.title, p.content, p.updatedAt) " +
+           "from Post p where p.id in :ids")
+    List<SearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "where p.id in :ids")
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 삭제 표시된 게시글은 @SQLRestriction 으로 JPQL 에서 보이지 않으므로 네이티브 쿼리로 찾는다.
+     */
+    @Query(value = "select id from posts where deleted_at is not null order by id limit :limit", nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    @Query(value = "select count(*) from posts where deleted_at is not null", nativeQuery = true)
+    long countDeleted();
+
+    @Modifying
+    @Query(value = "delete from posts where id = :id and deleted_at is not null", nativeQuery = true)
+    int purgeDeleted(@Param("id") Long id);
+
+    /**
+     * 전체 게시글을 댓글과 함께 id 순으로 흘려보낸다. 엔티티가 아닌 투영이라 영속성 컨텍스트에 쌓이지 않는다.
+     * MySQL 은 useCursorFetch=true 일 때만 fetch size 단위로 서버 커서에서 읽는다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.cursorboard.post.infrastructure.PostExportRow(" +
+           "p.id, p.title, p.content, pu.email, p.commentCount, p.viewCount, p.createdAt, p.updatedAt, " +
+           "c.id, c.content, cu.email, c.createdAt) " +
+           "from Post p join p.user pu left join p.comments c left join c.user cu " +
+           "order by p.id, c.id")
+    Stream<PostExportRow> streamExportRows();
+}
@@ -0,0 +1,246 @@
+package com.cursorboard.post.infrastructure.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문에 대한 메모리 역색인과 BM25 점수 계산.
+ * 문서마다 stamp(수정 시각)를 함께 보관해 오래된 내용으로 덮어쓰지 않고, 재시작 시 DB 와의 차이만 다시 색인한다.
+ */
+public class InvertedIndex {
+
+    private static final int MAGIC = 0x43424958;
+    // 2: 한글/한자 글자 하나짜리 토큰을 함께 색인한다. 옛 스냅샷은 읽지 않고 기동 시 전체를 다시 색인한다.
+    private static final int FORMAT_VERSION = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    // 삭제된 게시글 id 는 재사용되지 않으므로, 삭제 전에 읽힌 문서가 뒤늦게 put 되어도 되살리지 않도록 남겨 둔다.
+    // 재시작하면 비워지지만 그때는 DB 와 대조(reconcile)해 삭제된 글을 다시 걸러낸다.
+    private final Set<Long> tombstones = new HashSet<>();
+    private long totalLength;
+
+    /**
+     * 문서를 색인한다. 이미 더 최신 stamp 로 색인되었거나 삭제된 문서라면 무시하고 false 를 돌려준다.
+     */
+    public boolean put(long docId, long stamp, String title, String content) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String token : Tokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String token : Tokenizer.tokenize(content)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Document existing = documents.get(docId);
+            if (tombstones.contains(docId) || existing != null && existing.stamp > stamp) {
+                return false;
+            }
+            removeInternal(docId);
+            addInternal(docId, new Document(stamp, length, termFrequencies));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 지우고 tombstone 을 남긴다. 이후 같은 id 의 put 은 무시된다.
+     */
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            tombstones.add(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의어 토큰 중 하나라도 포함한 문서를 BM25 점수 내림차순으로 최대 limit 건 돌려준다.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenizeQuery(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int length = documents.get(entry.getKey()).length;
+                    int tf = entry.getValue();
+                    double norm = tf + K1 * (1 - B + B * length / averageLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / norm, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public Map<Long, Long> stamps() {
+        lock.readLock().lock();
+        try {
+            Map<Long, Long> stamps = new HashMap<>(documents.size() * 2);
+            documents.forEach((docId, document) -> stamps.put(docId, document.stamp));
+            return stamps;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        lock.readLock().lock();
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+                Document document = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeLong(document.stamp);
+                out.writeInt(document.length);
+                out.writeInt(document.termFrequencies.size());
+                for (Map.Entry<String, Integer> term : document.termFrequencies.entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        out.flush();
+    }
+
+    /**
+     * 스냅샷을 읽어 현재 색인 내용을 통째로 교체한다.
+     */
+    public void readFrom(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported search index format");
+        }
+        int documentCount = in.readInt();
+        Map<Long, Document> loaded = new HashMap<>(documentCount * 2);
+        for (int i = 0; i < documentCount; i++) {
+            long docId = in.readLong();
+            long stamp = in.readLong();
+            int length = in.readInt();
+            int termCount = in.readInt();
+            Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                termFrequencies.put(in.readUTF(), in.readInt());
+            }
+            loaded.put(docId, new Document(stamp, length, termFrequencies));
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            loaded.forEach(this::addInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addInternal(long docId, Document document) {
+        documents.put(docId, document);
+        totalLength += document.length;
+        document.termFrequencies.forEach((term, tf) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(docId, tf));
+    }
+
+    private void removeInternal(long docId) {
+        Document document = documents.remove(docId);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length;
+        for (String term : document.termFrequencies.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(docId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static class Document {
+        private final long stamp;
+        private final int length;
+        private final Map<String, Integer> termFrequencies;
+
+        private Document(long stamp, int length, Map<String, Integer> termFrequencies) {
+            this.stamp = stamp;
+            this.length = length;
+            this.termFrequencies = termFrequencies;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.cursorboard.post.infrastructure.search;
+
+import com.cursorboard.post.infrastructure.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 검색 색인의 생명주기를 관리한다.
+ * 기동 시 스냅샷 파일을 읽고 DB 와 수정 시각을 비교해 바뀐 글만 다시 색인하며,
+ * 이후에는 application 계층의 PostSearchIndexListener 가 게시글 변경 이벤트마다 reindex/remove 를 호출한다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final Path indexFile;
+    private final InvertedIndex index = new InvertedIndex();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    public PostSearchIndex(
+            PostRepository postRepository,
+            @Value("${board.search.index-file:}") String indexFile) {
+        this.postRepository = postRepository;
+        this.indexFile = StringUtils.hasText(indexFile) ? Paths.get(indexFile) : null;
+    }
+
+    public List<Long> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long startedAt = System.currentTimeMillis();
+        boolean loaded = loadSnapshot();
+        int reindexed = reconcile();
+        log.info("Search index ready: {} posts ({} reindexed, snapshot {}) in {} ms",
+                index.size(), reindexed, loaded ? "loaded" : "not found", System.currentTimeMillis() - startedAt);
+        if (reindexed > 0) {
+            dirty.set(true);
+            snapshot();
+        }
+    }
+
+    /**
+     * 게시글을 DB 에서 다시 읽어 색인한다. 이미 더 최신 내용이나 삭제가 반영된 글은 건너뛴다.
+     * @return 실제로 색인된 글 수
+     */
+    public int reindex(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        for (SearchDocument document : postRepository.findSearchDocumentsByIdIn(postIds)) {
+            if (index.put(document.getId(), toStamp(document.getUpdatedAt()), document.getTitle(), document.getContent())) {
+                count++;
+            }
+        }
+        dirty.set(true);
+        return count;
+    }
+
+    public void remove(Long postId) {
+        index.remove(postId);
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${board.search.snapshot-interval:PT5M}")
+    public void snapshot() {
+        if (indexFile == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            Files.createDirectories(indexFile.toAbsolutePath().getParent());
+            Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                index.writeTo(out);
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Failed to write search index snapshot to {}", indexFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshot();
+    }
+
+    private boolean loadSnapshot() {
+        if (indexFile == null || !Files.isRegularFile(indexFile)) {
+            return false;
+        }
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            index.readFrom(in);
+            return true;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable search index snapshot {}", indexFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * DB 의 (id, updatedAt) 목록과 색인을 비교해 새로 생기거나 수정된 글은 다시 색인하고, 사라진 글은 제거한다.
+     */
+    private int reconcile() {
+        Map<Long, Long> indexed = index.stamps();
+        Set<Long> existing = new HashSet<>(indexed.size() * 2);
+        int reindexed = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> stamps = postRepository.findUpdatedAtAfterId(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (stamps.isEmpty()) {
+                break;
+            }
+            List<Long> stale = new ArrayList<>();
+            for (Object[] row : stamps) {
+                Long postId = (Long) row[0];
+                existing.add(postId);
+                Long indexedStamp = indexed.get(postId);
+                if (indexedStamp == null || indexedStamp != toStamp((LocalDateTime) row[1])) {
+                    stale.add(postId);
+                }
+            }
+            reindexed += reindex(stale);
+            afterId = (Long) stamps.get(stamps.size() - 1)[0];
+        }
+
+        for (Long postId : indexed.keySet()) {
+            if (!existing.contains(postId)) {
+                index.remove(postId);
+                reindexed++;
+            }
+        }
+        return reindexed;
+    }
+
+    private static long toStamp(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0L;
+        }
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,15 @@
+package com.cursorboard.post.infrastructure.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SearchDocument {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime updatedAt;
+}
@@ -0,0 +1,96 @@
+package com.cursorboard.post.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저.
+ * 영문/숫자는 소문자 단어 단위로, 한글/한자/가나처럼 띄어쓰기만으로 형태소를 나누기 어려운 문자열은 글자 bigram 으로 자른다.
+ * 문서는 bigram 과 함께 글자 하나짜리 토큰도 색인해, 한 글자 질의("글")도 긴 단어 안에서 찾을 수 있게 한다.
+ * 질의는 두 글자 이상이면 bigram 만, 한 글자면 그 글자만 쓴다.
+ * 예) 질의 "게시판 검색 API" → [게시, 시판, 검색, api], 문서 "게시판" → [게, 시, 판, 게시, 시판]
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    /**
+     * 색인할 문서용 토큰.
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어용 토큰.
+     */
+    public static List<String> tokenizeQuery(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder word = new StringBuilder();
+        StringBuilder cjk = new StringBuilder();
+        int index = 0;
+        while (index < text.length()) {
+            int codePoint = text.codePointAt(index);
+            index += Character.charCount(codePoint);
+
+            if (isBigramScript(codePoint)) {
+                flushWord(word, tokens);
+                cjk.appendCodePoint(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushBigrams(cjk, tokens, unigrams);
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, tokens);
+                flushBigrams(cjk, tokens, unigrams);
+            }
+        }
+        flushWord(word, tokens);
+        flushBigrams(cjk, tokens, unigrams);
+        return tokens;
+    }
+
+    private static boolean isBigramScript(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.length() > 0) {
+            tokens.add(word.toString().toLowerCase(Locale.ROOT));
+            word.setLength(0);
+        }
+    }
+
+    private static void flushBigrams(StringBuilder run, List<String> tokens, boolean unigrams) {
+        if (run.length() == 0) {
+            return;
+        }
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(new String(codePoints, 0, 1));
+        } else {
+            if (unigrams) {
+                for (int i = 0; i < codePoints.length; i++) {
+                    tokens.add(new String(codePoints, i, 1));
+                }
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        run.setLength(0);
+    }
+}
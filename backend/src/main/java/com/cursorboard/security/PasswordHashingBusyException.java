@@ -0,0 +1,11 @@
+package com.cursorboard.security;
+
+/**
+ * 비밀번호 해싱 대기열이 가득 차 요청을 받지 못했을 때 발생한다. 503 으로 응답한다.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
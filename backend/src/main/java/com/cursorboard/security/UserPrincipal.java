@@ -1,24 +1,36 @@
 package com.cursorboard.security;
 
+import com.cursorboard.user.domain.UserRole;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.List;
 
+/**
+ * 인증된 사용자. JWT 의 uid/role 클레임으로 만들어지므로 서비스는 사용자 조회 없이 id 와 권한을 쓸 수 있다.
+ */
 @Getter
 public class UserPrincipal implements UserDetails {
 
+    private final Long id;
     private final String email;
     private final String password;
+    private final UserRole role;
     private final Collection<? extends GrantedAuthority> authorities;
 
-    public UserPrincipal(String email, String password, Collection<? extends GrantedAuthority> authorities) {
+    public UserPrincipal(Long id, String email, String password, UserRole role) {
+        this.id = id;
         this.email = email;
         this.password = password;
-        this.authorities = authorities;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
+    public boolean isAdmin() { return role == UserRole.ADMIN; }
+
     @Override
     public String getUsername() { return email; }
 
@@ -36,4 +48,4 @@ public class UserPrincipal implements UserDetails {
     public boolean isCredentialsNonExpired() { return true; }
     @Override
     public boolean isEnabled() { return true; }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.cursorboard.security;
+
+import com.cursorboard.user.infrastructure.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이메일로 사용자 id/권한을 찾아야 하는 남은 경로(uid 클레임이 없는 이전 토큰, 가져오기 작성자)용 캐시.
+ * 비밀번호 해시는 담지 않는다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserPrincipal> cache;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            @Value("${board.cache.user-principal.maximum-size:10000}") long maximumSize,
+            @Value("${board.cache.user-principal.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userPrincipal");
+    }
+
+    public Optional<UserPrincipal> get(String email) {
+        return Optional.ofNullable(cache.get(email, key -> userRepository.findByEmail(key)
+                .map(user -> new UserPrincipal(user.getId(), user.getEmail(), null, user.getRole()))
+                .orElse(null)));
+    }
+}
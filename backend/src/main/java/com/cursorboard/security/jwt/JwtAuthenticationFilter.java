@@ -1,50 +1,83 @@
 package com.cursorboard.security.jwt;
 
 import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.security.UserPrincipalCache;
+import com.cursorboard.user.domain.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserPrincipalCache userPrincipalCache, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.userPrincipalCache = userPrincipalCache;
+        this.authenticatedTimer = verificationTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = verificationTimer(meterRegistry, "rejected");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String jwt = resolveToken(request);
         
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            String username = tokenProvider.getUsername(jwt);
-            String role = tokenProvider.getRoleFromToken(jwt);
-            UserPrincipal userPrincipal = new UserPrincipal(
-                    username,
-                    null,
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
-            );
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userPrincipal,
-                    null,
-                    userPrincipal.getAuthorities()
-            );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(jwt)) {
+            long startedAt = System.nanoTime();
+            Optional<UserPrincipal> principal = tokenProvider.resolveClaims(jwt).flatMap(this::toPrincipal);
+            (principal.isPresent() ? authenticatedTimer : rejectedTimer).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            principal.ifPresent(this::authenticate);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * uid 클레임이 없는 이전 형식의 토큰은 만료될 때까지 이메일로 사용자를 찾아 id 를 채운다.
+     */
+    private Optional<UserPrincipal> toPrincipal(JwtClaims claims) {
+        if (claims.getUserId() == null) {
+            return userPrincipalCache.get(claims.getUsername());
+        }
+        return Optional.of(new UserPrincipal(
+                claims.getUserId(),
+                claims.getUsername(),
+                null,
+                UserRole.valueOf(claims.getRole())
+        ));
+    }
+
+    private void authenticate(UserPrincipal userPrincipal) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                userPrincipal,
+                null,
+                userPrincipal.getAuthorities()
+        );
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("board.jwt.verification")
+                .description("Bearer token verification time, including the verified-token cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,25 @@
+package com.cursorboard.security.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰에서 인증에 필요한 값만 꺼낸 불변 객체.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtClaims {
+    /**
+     * uid 클레임. 이 클레임이 생기기 전에 발급된 토큰이면 null 이다.
+     */
+    private final Long userId;
+    private final String username;
+    private final String role;
+    private final Instant expiration;
+
+    public boolean isExpired(Instant now) {
+        return !expiration.isAfter(now);
+    }
+}
@@ -0,0 +1,83 @@
+package com.cursorboard.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 이미 서명 검증을 통과한 토큰의 클레임을 보관한다.
+ * 원문 토큰 대신 SHA-256 다이제스트를 키로 쓰고, 항목은 ttl 과 토큰 exp 중 먼저 오는 시점에 만료된다.
+ */
+class VerifiedTokenCache {
+
+    private final Cache<String, JwtClaims> cache;
+
+    VerifiedTokenCache(long maximumSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ClaimsExpiry(ttl.toNanos()))
+                .recordStats()
+                .build();
+    }
+
+    Optional<JwtClaims> get(String token, Function<String, Optional<JwtClaims>> verifier) {
+        String key = digest(token);
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return Optional.of(cached);
+            }
+            cache.invalidate(key);
+        }
+
+        Optional<JwtClaims> verified = verifier.apply(token);
+        verified.ifPresent(claims -> cache.put(key, claims));
+        return verified;
+    }
+
+    Cache<String, JwtClaims> getCache() {
+        return cache;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class ClaimsExpiry implements Expiry<String, JwtClaims> {
+        private final long ttlNanos;
+
+        ClaimsExpiry(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims value, long currentTime) {
+            long untilExpiration = Duration.between(Instant.now(), value.getExpiration()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
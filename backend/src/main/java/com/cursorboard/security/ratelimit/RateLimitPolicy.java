@@ -0,0 +1,76 @@
+package com.cursorboard.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 엔드포인트 하나에 대한 제한. period 동안 capacity 번까지 허용하며, 한 번에 capacity 만큼 몰아 쓸 수 있다.
+ * 버킷은 사용자 id(Long) 또는 IP(String)를 키로 정책마다 따로 둔다.
+ */
+public class RateLimitPolicy {
+
+    @Getter
+    private final String name;
+    private final String method;
+    private final Predicate<String> pathMatcher;
+    @Getter
+    private final boolean perUser;
+    private final long interval;
+    private final long tolerance;
+    private final Map<Object, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Counter rejected;
+
+    public RateLimitPolicy(String name, String method, Predicate<String> pathMatcher, boolean perUser,
+                           int capacity, Duration period, MeterRegistry meterRegistry) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + name);
+        }
+        this.name = name;
+        this.method = method;
+        this.pathMatcher = pathMatcher;
+        this.perUser = perUser;
+        this.interval = period.toNanos() / capacity;
+        this.tolerance = interval * (capacity - 1);
+        this.rejected = Counter.builder("board.ratelimit.rejected")
+                .tag("policy", name)
+                .register(meterRegistry);
+    }
+
+    boolean matches(String requestMethod, String path) {
+        return method.equals(requestMethod) && pathMatcher.test(path);
+    }
+
+    /**
+     * @return 허용되면 0, 아니면 재시도까지 남은 시간(ns)
+     */
+    long tryAcquire(Object key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+        long wait = bucket.tryAcquire(now, interval, tolerance);
+        if (wait > 0) {
+            rejected.increment();
+        }
+        return wait;
+    }
+
+    /**
+     * 가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 제한 결과가 달라지지 않는다.
+     */
+    int evictFull(long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        return before - buckets.size();
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
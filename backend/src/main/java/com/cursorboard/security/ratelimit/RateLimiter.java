@@ -0,0 +1,85 @@
+package com.cursorboard.security.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기와 로그인 엔드포인트의 요청 빈도 제한 정책과 버킷을 관리한다. 실제 적용은 RateLimitFilter 가 한다.
+ */
+@Component
+public class RateLimiter {
+
+    @Getter
+    private final boolean enabled;
+    private final List<RateLimitPolicy> policies;
+    private final LongSupplier nanoTime;
+
+    public RateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${board.rate-limit.enabled:true}") boolean enabled,
+            @Value("${board.rate-limit.login.capacity:10}") int loginCapacity,
+            @Value("${board.rate-limit.login.period:PT1M}") Duration loginPeriod,
+            @Value("${board.rate-limit.create-post.capacity:10}") int postCapacity,
+            @Value("${board.rate-limit.create-post.period:PT1M}") Duration postPeriod,
+            @Value("${board.rate-limit.create-comment.capacity:30}") int commentCapacity,
+            @Value("${board.rate-limit.create-comment.period:PT1M}") Duration commentPeriod) {
+        this(enabled, List.of(
+                new RateLimitPolicy("login", "POST", "/api/auth/login"::equals, false,
+                        loginCapacity, loginPeriod, meterRegistry),
+                new RateLimitPolicy("create-post", "POST", "/api/posts"::equals, true,
+                        postCapacity, postPeriod, meterRegistry),
+                new RateLimitPolicy("create-comment", "POST",
+                        path -> path.startsWith("/api/posts/") && path.endsWith("/comments"), true,
+                        commentCapacity, commentPeriod, meterRegistry)
+        ), System::nanoTime, meterRegistry);
+    }
+
+    RateLimiter(boolean enabled, List<RateLimitPolicy> policies, LongSupplier nanoTime, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.policies = policies;
+        this.nanoTime = nanoTime;
+        Gauge.builder("board.ratelimit.buckets", this, RateLimiter::bucketCount)
+                .description("메모리에 있는 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정책이 없는 요청이면 null. 대부분의 요청(GET)은 메서드 비교 한 번으로 끝난다.
+     */
+    public RateLimitPolicy policyFor(String method, String path) {
+        if (!enabled) {
+            return null;
+        }
+        for (RateLimitPolicy policy : policies) {
+            if (policy.matches(method, path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 허용되면 0, 아니면 재시도까지 남은 시간(ns)
+     */
+    public long tryAcquire(RateLimitPolicy policy, Object key) {
+        return policy.tryAcquire(key, nanoTime.getAsLong());
+    }
+
+    @Scheduled(fixedDelayString = "${board.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = nanoTime.getAsLong();
+        policies.forEach(policy -> policy.evictFull(now));
+    }
+
+    private double bucketCount() {
+        return policies.stream().mapToInt(RateLimitPolicy::size).sum();
+    }
+}
@@ -0,0 +1,38 @@
+package com.cursorboard.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA 방식의 토큰 버킷. 토큰 수와 마지막 리필 시각 대신 "버킷이 다시 가득 차는 시각(ns)" 하나만 저장하므로
+ * 리필과 소비를 한 번의 CAS 로 처리한다. 이 시각이 현재보다 과거면 가득 찬 버킷과 같아 지워도 된다.
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * @param interval  토큰 하나가 다시 차는 데 걸리는 시간(ns)
+     * @param tolerance 버스트 허용량. interval * (capacity - 1)
+     * @return 허용되면 0, 아니면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    long tryAcquire(long now, long interval, long tolerance) {
+        while (true) {
+            long current = fullAt.get();
+            long allowAt = current - tolerance;
+            if (now < allowAt) {
+                return allowAt - now;
+            }
+            if (fullAt.compareAndSet(current, Math.max(current, now) + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -25,7 +26,11 @@ public class UserService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
 
-    @Transactional
+    /**
+     * 해싱은 BoundedPasswordEncoder 의 대기열에서 기다릴 수 있으므로 트랜잭션(커넥션) 밖에서 수행하고,
+     * 저장은 repository 의 트랜잭션으로 처리한다. 동시 가입은 email 유니크 제약이 막는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signup(UserRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
@@ -40,6 +45,7 @@ public class UserService {
 
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse login(UserRequest request) {
         Authentication authentication = authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
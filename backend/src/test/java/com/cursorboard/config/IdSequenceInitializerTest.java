@@ -0,0 +1,46 @@
+package com.cursorboard.config;
+
+import com.cursorboard.user.domain.User;
+import com.cursorboard.user.domain.UserRole;
+import com.cursorboard.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class IdSequenceInitializerTest {
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("시퀀스 테이블이 max(id) 보다 뒤처져 있으면 max(id) + 1 로 올린다")
+    void seedSequenceBehindMaxId() {
+        // given
+        User user = userRepository.saveAndFlush(new User("sequence@example.com", "password", UserRole.USER));
+        jdbcTemplate.update("update users_seq set next_val = 1");
+
+        // when
+        int seeded = idSequenceInitializer.seed();
+
+        // then
+        assertThat(seeded).isEqualTo(1);
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from users", Long.class);
+        Long nextVal = jdbcTemplate.queryForObject("select next_val from users_seq", Long.class);
+        assertThat(maxId).isGreaterThanOrEqualTo(user.getId());
+        assertThat(nextVal).isEqualTo(maxId + 1);
+        assertThat(idSequenceInitializer.seed()).isZero();
+    }
+}
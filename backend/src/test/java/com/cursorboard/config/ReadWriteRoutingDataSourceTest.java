@@ -0,0 +1,191 @@
+package com.cursorboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 각각 자기 이름을 담은 H2 인메모리 DB 를 primary/복제본으로 두고, 조회 결과로 어느 DB 로 라우팅됐는지 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary, 읽기 전용 트랜잭션은 복제본을 번갈아 사용")
+    void routesByReadOnlyFlag() {
+        // given
+        Routing routing = routing(ReadWriteRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ZERO, () -> null,
+                node("primary"), node("replica-1"), node("replica-2"));
+
+        // when & then
+        assertThat(routing.write()).isEqualTo("primary");
+        assertThat(List.of(routing.read(), routing.read(), routing.read(), routing.read()))
+                .containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+        assertThat(meterRegistry.get("board.datasource.routed").tag("route", "replica").counter().count())
+                .isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("헬스 체크에 실패한 복제본은 제외하고, 모두 실패하면 primary 로 읽기")
+    void skipsUnhealthyReplicas() {
+        // given
+        Routing routing = routing(ReadWriteRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ZERO, () -> null,
+                node("primary"), node("replica-1"), missing());
+
+        // when
+        routing.dataSource.checkReplicas(Duration.ofSeconds(1));
+
+        // then
+        assertThat(List.of(routing.read(), routing.read())).containsExactly("replica-1", "replica-1");
+        assertThat(meterRegistry.get("board.datasource.replica.healthy").tag("replica", "replica-2").gauge().value())
+                .isZero();
+
+        Routing noHealthyReplica = routing(ReadWriteRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ZERO,
+                () -> null, node("primary"), missing());
+        noHealthyReplica.dataSource.checkReplicas(Duration.ofSeconds(1));
+        assertThat(noHealthyReplica.read()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("least-connections - 사용 중인 커넥션이 적은 복제본 선택")
+    void leastConnections() throws Exception {
+        // given
+        HikariDataSource busy = pool(node("replica-1"));
+        HikariDataSource idle = pool(node("replica-2"));
+        Routing routing = routing(ReadWriteRoutingDataSource.Balancing.LEAST_CONNECTIONS, Duration.ZERO, () -> null,
+                node("primary"), busy, idle);
+
+        // when
+        try (Connection held = busy.getConnection()) {
+            // then
+            assertThat(List.of(routing.read(), routing.read())).containsExactly("replica-2", "replica-2");
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 sticky-window 동안 primary 에서 읽기")
+    void readYourWrites() throws Exception {
+        // given
+        String[] user = {"writer@example.com"};
+        Routing routing = routing(ReadWriteRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ofMillis(300),
+                () -> user[0], node("primary"), node("replica-1"));
+
+        // when
+        routing.write();
+
+        // then
+        assertThat(routing.read()).isEqualTo("primary");
+        user[0] = "reader@example.com";
+        assertThat(routing.read()).isEqualTo("replica-1");
+        user[0] = "writer@example.com";
+        Thread.sleep(400);
+        assertThat(routing.read()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("캐시 적재용 읽기(primary-read)는 복제본이 있어도 primary 에서 읽기")
+    void primaryReadTransaction() {
+        // given
+        Routing routing = routing(ReadWriteRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ZERO,
+                () -> "reader@example.com", node("primary"), node("replica-1"));
+
+        // when & then
+        assertThat(List.of(routing.primaryRead(), routing.primaryRead())).containsExactly("primary", "primary");
+        assertThat(routing.read()).isEqualTo("replica-1");
+        assertThat(meterRegistry.get("board.datasource.routed").tag("route", "pinned").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    private Routing routing(ReadWriteRoutingDataSource.Balancing balancing, Duration stickyWindow,
+                            Supplier<String> currentUser,
+                            DataSource primary, DataSource... replicas) {
+        Map<String, DataSource> named = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.length; i++) {
+            named.put("replica-" + (i + 1), replicas[i]);
+        }
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(
+                primary, named, balancing, stickyWindow, currentUser, meterRegistry);
+        dataSource.afterPropertiesSet();
+        return new Routing(dataSource);
+    }
+
+    private DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", name);
+        return dataSource;
+    }
+
+    private DataSource missing() {
+        // 아무도 듣지 않는 포트라 연결이 즉시 거절된다.
+        return new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/missing", "sa", "");
+    }
+
+    private HikariDataSource pool(DataSource dataSource) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setDataSource(dataSource);
+        pool.setMaximumPoolSize(2);
+        pools.add(pool);
+        return pool;
+    }
+
+    private static class Routing {
+        private final ReadWriteRoutingDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate write;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate primaryRead;
+
+        Routing(ReadWriteRoutingDataSource dataSource) {
+            this.dataSource = dataSource;
+            DataSource lazy = new LazyConnectionDataSourceProxy(dataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(lazy);
+            this.jdbcTemplate = new JdbcTemplate(lazy);
+            this.write = new TransactionTemplate(transactionManager);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.primaryRead = new TransactionConfig().primaryReadTransactionTemplate(transactionManager);
+        }
+
+        String write() {
+            return write.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+        }
+
+        String read() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+        }
+
+        String primaryRead() {
+            return primaryRead.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+        }
+    }
+}
@@ -5,18 +5,33 @@ import com.cursorboard.post.api.request.CommentRequest;
 import com.cursorboard.post.api.request.PostRequest;
 import com.cursorboard.post.api.response.CommentResponse;
 import com.cursorboard.post.api.response.PostResponse;
+import com.cursorboard.support.HandlerQueryCounter;
 import com.cursorboard.user.api.request.UserRequest;
 import com.cursorboard.user.api.response.UserResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class BoardIntegrationTest {
@@ -29,6 +44,9 @@ class BoardIntegrationTest {
 
     private String jwtToken;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         baseUrl = "http://localhost:" + port;
@@ -87,6 +105,16 @@ class BoardIntegrationTest {
                 postType
         );
 
+        // 4-1. 상세 조회로 캐시 적재 (이후 댓글 등록 시 무효화되어야 함)
+        ParameterizedTypeReference<ApiResponse<PostResponse>> detailType = new ParameterizedTypeReference<>() {};
+        ResponseEntity<ApiResponse<PostResponse>> cachedResponse = restTemplate.exchange(
+                baseUrl + "/api/posts/" + postId,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                detailType
+        );
+        assertThat(cachedResponse.getBody().getData().getComments()).isEmpty();
+
         // 5. 댓글 등록
         CommentRequest commentRequest = new CommentRequest("댓글 내용입니다.");
         HttpEntity<CommentRequest> commentEntity = new HttpEntity<>(commentRequest, headers);
@@ -102,7 +130,6 @@ class BoardIntegrationTest {
         assertThat(commentResponse.getBody().getData()).isNotNull();
 
         // 6. 게시글 상세 조회
-        ParameterizedTypeReference<ApiResponse<PostResponse>> detailType = new ParameterizedTypeReference<>() {};
         ResponseEntity<ApiResponse<PostResponse>> detailResponse = restTemplate.exchange(
                 baseUrl + "/api/posts/" + postId,
                 HttpMethod.GET,
@@ -114,7 +141,226 @@ class BoardIntegrationTest {
         assertThat(detail.getTitle()).isEqualTo("수정 제목");
         assertThat(detail.getContent()).isEqualTo("수정 내용");
         assertThat(detail.getComments()).anyMatch(c -> c.getContent().equals("댓글 내용입니다."));
+        assertThat(detail.getCommentCount()).isEqualTo(1L);
     }
 
-}
+    @Test
+    @DisplayName("게시글 상세 조건부 조회 - ETag 일치 시 304, 댓글 등록 후 200")
+    void conditionalGetPost() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ParameterizedTypeReference<ApiResponse<PostResponse>> postType = new ParameterizedTypeReference<>() {};
+        Long postId = restTemplate.exchange(
+                baseUrl + "/api/posts",
+                HttpMethod.POST,
+                new HttpEntity<>(new PostRequest("조건부 제목", "조건부 내용"), headers),
+                postType
+        ).getBody().getData().getId();
+
+        ResponseEntity<ApiResponse<PostResponse>> first = restTemplate.exchange(
+                baseUrl + "/api/posts/" + postId, HttpMethod.GET, HttpEntity.EMPTY, postType);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+        assertThat(first.getHeaders().getLastModified()).isEqualTo(-1L);
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+        ResponseEntity<ApiResponse<PostResponse>> notModified = restTemplate.exchange(
+                baseUrl + "/api/posts/" + postId, HttpMethod.GET, new HttpEntity<>(conditional), postType);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+
+        restTemplate.exchange(
+                baseUrl + "/api/posts/" + postId + "/comments",
+                HttpMethod.POST,
+                new HttpEntity<>(new CommentRequest("새 댓글"), headers),
+                new ParameterizedTypeReference<ApiResponse<CommentResponse>>() {}
+        );
+        ResponseEntity<ApiResponse<PostResponse>> modified = restTemplate.exchange(
+                baseUrl + "/api/posts/" + postId, HttpMethod.GET, new HttpEntity<>(conditional), postType);
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(modified.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조건부 조회 - 댓글 삭제 후 If-Modified-Since 만 보내도 200")
+    void conditionalGetPostAfterCommentDeleted() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ParameterizedTypeReference<ApiResponse<PostResponse>> postType = new ParameterizedTypeReference<>() {};
+        Long postId = restTemplate.exchange(
+                baseUrl + "/api/posts",
+                HttpMethod.POST,
+                new HttpEntity<>(new PostRequest("댓글 삭제 제목", "내용"), headers),
+                postType
+        ).getBody().getData().getId();
+        Long commentId = restTemplate.exchange(
+                baseUrl + "/api/posts/" + postId + "/comments",
+                HttpMethod.POST,
+                new HttpEntity<>(new CommentRequest("지워질 댓글"), headers),
+                new ParameterizedTypeReference<ApiResponse<CommentResponse>>() {}
+        ).getBody().getData().getId();
+        restTemplate.exchange(baseUrl + "/api/posts/" + postId, HttpMethod.GET, HttpEntity.EMPTY, postType);
+
+        restTemplate.exchange(
+                baseUrl + "/api/posts/comments/" + commentId,
+                HttpMethod.DELETE,
+                new HttpEntity<>(headers),
+                new ParameterizedTypeReference<ApiResponse<Void>>() {}
+        );
 
+        HttpHeaders modifiedSince = new HttpHeaders();
+        modifiedSince.setIfModifiedSince(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1));
+        ResponseEntity<ApiResponse<PostResponse>> response = restTemplate.exchange(
+                baseUrl + "/api/posts/" + postId, HttpMethod.GET, new HttpEntity<>(modifiedSince), postType);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getData().getComments()).isEmpty();
+        assertThat(response.getBody().getData().getCommentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조건부 조회 - Last-Modified 없이 ETag 로만 304")
+    void conditionalGetPosts() {
+        ParameterizedTypeReference<ApiResponse<Object>> listType = new ParameterizedTypeReference<>() {};
+        ResponseEntity<ApiResponse<Object>> first = restTemplate.exchange(
+                baseUrl + "/api/posts", HttpMethod.GET, HttpEntity.EMPTY, listType);
+        assertThat(first.getHeaders().getETag()).isNotNull();
+        assertThat(first.getHeaders().getLastModified()).isEqualTo(-1L);
+
+        // If-Modified-Since 만 보내는 클라이언트는 삭제/댓글 변경을 놓치지 않도록 항상 본문을 받는다.
+        HttpHeaders modifiedSince = new HttpHeaders();
+        modifiedSince.setIfModifiedSince(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1));
+        ResponseEntity<ApiResponse<Object>> unconditional = restTemplate.exchange(
+                baseUrl + "/api/posts", HttpMethod.GET, new HttpEntity<>(modifiedSince), listType);
+        assertThat(unconditional.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        HttpHeaders noneMatch = new HttpHeaders();
+        noneMatch.setIfNoneMatch(first.getHeaders().getETag());
+        ResponseEntity<ApiResponse<Object>> notModified = restTemplate.exchange(
+                baseUrl + "/api/posts", HttpMethod.GET, new HttpEntity<>(noneMatch), listType);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("핸들러 메트릭 - 예외 처리 결과가 outcome 태그로 기록")
+    void handlerMetricsRecordOutcome() {
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/api/posts/" + Long.MAX_VALUE, String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        // afterCompletion 은 응답이 클라이언트에 전달된 뒤에 끝날 수 있다.
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            Timer timer = meterRegistry.find("board.handler")
+                    .tags("handler", "PostController.getPost", "outcome", "illegal_argument")
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isPositive();
+            assertThat(meterRegistry.find("board.handler.queries").tags("handler", "PostController.getPost").summary())
+                    .isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("액추에이터 - health 만 공개, prometheus 는 관리자 전용")
+    void prometheusRequiresAdmin() {
+        ResponseEntity<String> anonymous = restTemplate.getForEntity(baseUrl + "/actuator/prometheus", String.class);
+        assertThat(anonymous.getStatusCode().is4xxClientError()).isTrue();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtToken);
+        ResponseEntity<String> user = restTemplate.exchange(
+                baseUrl + "/actuator/prometheus", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(user.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        ResponseEntity<String> health = restTemplate.getForEntity(baseUrl + "/actuator/health", String.class);
+        assertThat(health.getStatusCode().is4xxClientError()).isFalse();
+    }
+
+    @Test
+    @DisplayName("쿼리 예산 - 목록/상세/작성/삭제 요청당 실행되는 SQL 문 수")
+    void requestsWithinQueryBudget() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ParameterizedTypeReference<ApiResponse<PostResponse>> postType = new ParameterizedTypeReference<>() {};
+
+        // 작성: insert 1 + id 블록 할당(select/update) + 커밋 후 인기글 점수 갱신
+        Long[] postId = new Long[1];
+        long create = HandlerQueryCounter.count(meterRegistry, "PostController.createPost", () ->
+                postId[0] = restTemplate.exchange(
+                        baseUrl + "/api/posts",
+                        HttpMethod.POST,
+                        new HttpEntity<>(new PostRequest("예산 제목", "예산 내용"), headers),
+                        postType
+                ).getBody().getData().getId());
+        assertThat(create).isLessThanOrEqualTo(4);
+
+        for (int i = 0; i < 3; i++) {
+            restTemplate.exchange(
+                    baseUrl + "/api/posts/" + postId[0] + "/comments",
+                    HttpMethod.POST,
+                    new HttpEntity<>(new CommentRequest("댓글" + i), headers),
+                    new ParameterizedTypeReference<ApiResponse<CommentResponse>>() {}
+            );
+        }
+
+        // 목록: 작성자/댓글 수를 포함한 select 1
+        long list = HandlerQueryCounter.count(meterRegistry, "PostController.getPosts", () ->
+                restTemplate.getForEntity(baseUrl + "/api/posts", String.class));
+        assertThat(list).isLessThanOrEqualTo(1);
+
+        // 상세(캐시 미스): 버전 + 게시글 + 댓글, 댓글 작성자 수와 무관
+        long detail = HandlerQueryCounter.count(meterRegistry, "PostController.getPost", () ->
+                restTemplate.getForEntity(baseUrl + "/api/posts/" + postId[0], String.class));
+        assertThat(detail).isLessThanOrEqualTo(3);
+
+        // 삭제: 게시글 select + 삭제 표시 update, 댓글 수와 무관
+        long delete = HandlerQueryCounter.count(meterRegistry, "PostController.deletePost", () ->
+                restTemplate.exchange(baseUrl + "/api/posts/" + postId[0], HttpMethod.DELETE,
+                        new HttpEntity<>(headers), String.class));
+        assertThat(delete).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("SSE 피드 - 구독 후 작성된 게시글이 post-created 이벤트로 전달")
+    void streamDeliversCreatedPost() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<Stream<String>> stream = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/posts/stream"))
+                        .header("Accept", "text/event-stream")
+                        .build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertThat(stream.statusCode()).isEqualTo(200);
+        Iterator<String> lines = stream.body().iterator();
+        // 첫 프레임(재연결 간격 + ":connected" 주석)을 받으면 구독이 등록된 상태다.
+        assertThat(lines.next()).isEqualTo("retry:3000");
+        assertThat(lines.next()).isEqualTo(":connected");
+
+        CompletableFuture<String> received = CompletableFuture.supplyAsync(() -> {
+            while (lines.hasNext()) {
+                String line = lines.next();
+                if (line.equals("event:post-created")) {
+                    return lines.next();
+                }
+            }
+            return null;
+        });
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        restTemplate.exchange(
+                baseUrl + "/api/posts",
+                HttpMethod.POST,
+                new HttpEntity<>(new PostRequest("스트림 제목", "스트림 내용"), headers),
+                new ParameterizedTypeReference<ApiResponse<PostResponse>>() {}
+        );
+
+        String data = received.get(5, TimeUnit.SECONDS);
+        assertThat(data).startsWith("data:").contains("스트림 제목");
+        stream.body().close();
+    }
+}
@@ -0,0 +1,69 @@
+package com.cursorboard.post.api;
+
+import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.security.jwt.JwtTokenProvider;
+import com.cursorboard.user.domain.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminPostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Test
+    @DisplayName("게시글 내보내기 - 관리자 토큰이면 ASYNC 디스패치까지 200")
+    void exportPostsWithAdminToken() throws Exception {
+        // given
+        String token = createToken(UserRole.ADMIN);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/admin/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    @DisplayName("게시글 내보내기 - 일반 사용자 토큰이면 스트리밍을 시작하지 않고 403")
+    void exportPostsRejectsUserToken() throws Exception {
+        // given
+        String token = createToken(UserRole.USER);
+
+        // when & then
+        mockMvc.perform(get("/api/admin/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+    }
+
+    private String createToken(UserRole role) {
+        UserPrincipal principal = new UserPrincipal(1L, "export-" + role.name().toLowerCase() + "@example.com", null, role);
+        return tokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.cursorboard.post.api;
+
+import com.cursorboard.post.api.request.PostRequest;
+import com.cursorboard.post.application.PostDetailCache;
+import com.cursorboard.post.application.PostService;
+import com.cursorboard.post.application.ViewCountBuffer;
+import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.user.domain.User;
+import com.cursorboard.user.domain.UserRole;
+import com.cursorboard.user.infrastructure.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "board.cache.post-body.enabled=true")
+@Transactional
+class PostBodyWriterTest {
+
+    @Autowired
+    private PostBodyWriter postBodyWriter;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("body-cache@example.com", "password", UserRole.USER));
+        principal = new UserPrincipal(user.getId(), user.getEmail(), null, user.getRole());
+    }
+
+    @Test
+    @DisplayName("gzip 을 허용하면 압축된 본문을 쓰고, 적중해도 조회수는 센다")
+    void writeGzipBody() throws Exception {
+        // given
+        Long postId = postService.createPost(principal, new PostRequest("캐시 제목", "캐시 내용")).getId();
+        long pendingBefore = viewCountBuffer.pendingCount(postId);
+
+        // when
+        MockHttpServletResponse first = write(postId, "gzip, deflate, br");
+        MockHttpServletResponse second = write(postId, "gzip, deflate, br");
+
+        // then
+        assertThat(first.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(first.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        JsonNode body = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(second.getContentAsByteArray())));
+        assertThat(body.path("data").path("title").asText()).isEqualTo("캐시 제목");
+        assertThat(body.path("message").asText()).isEqualTo(PostBodyWriter.MESSAGE);
+        assertThat(viewCountBuffer.pendingCount(postId)).isEqualTo(pendingBefore + 2);
+    }
+
+    @Test
+    @DisplayName("gzip 을 허용하지 않으면 압축하지 않은 JSON 을 쓴다")
+    void writeIdentityBody() throws Exception {
+        // given
+        Long postId = postService.createPost(principal, new PostRequest("캐시 제목", "캐시 내용")).getId();
+
+        // when
+        MockHttpServletResponse response = write(postId, "gzip;q=0, identity");
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.path("data").path("id").asLong()).isEqualTo(postId);
+    }
+
+    @Test
+    @DisplayName("PostDetailCache 가 비워지면 직렬화된 본문도 다시 만든다")
+    void evictWithPostDetailCache() throws Exception {
+        // given
+        Long postId = postService.createPost(principal, new PostRequest("수정 전", "내용")).getId();
+        write(postId, null);
+        postService.updatePost(principal, postId, new PostRequest("수정 후", "내용"));
+
+        // when
+        postDetailCache.evict(postId);
+        MockHttpServletResponse response = write(postId, null);
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.path("data").path("title").asText()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("조회수 flush 후에는 캐시를 비우지 않고 본문만 다시 직렬화한다")
+    void reserializeAfterViewFlush() throws Exception {
+        // given
+        Long postId = postService.createPost(principal, new PostRequest("조회수 제목", "내용")).getId();
+        write(postId, null);
+        viewCountBuffer.flush();
+
+        // when
+        MockHttpServletResponse response = write(postId, null);
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.path("data").path("viewCount").asLong()).isEqualTo(1L);
+        assertThat(viewCountBuffer.pendingCount(postId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 조회수를 세지 않는다")
+    void missingPostIsNotCounted() {
+        // given
+        Long postId = Long.MAX_VALUE;
+
+        // when & then
+        assertThatThrownBy(() -> write(postId, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(viewCountBuffer.pendingCount(postId)).isZero();
+    }
+
+    private MockHttpServletResponse write(Long postId, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/" + postId);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        postBodyWriter.write(postId, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,57 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.domain.Comment;
+import com.cursorboard.post.domain.Post;
+import com.cursorboard.post.infrastructure.CommentRepository;
+import com.cursorboard.post.infrastructure.PostRepository;
+import com.cursorboard.user.domain.User;
+import com.cursorboard.user.domain.UserRole;
+import com.cursorboard.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class CommentCountRepairJobTest {
+
+    @Autowired
+    private CommentCountRepairJob commentCountRepairJob;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("댓글 수 재계산 - 어긋난 카운터 복구")
+    void repairAllRecountsComments() {
+        // given
+        User user = userRepository.save(new User("repair@example.com", "password", UserRole.USER));
+        Post post = postRepository.save(new Post("제목", "내용", user));
+        commentRepository.save(new Comment("댓글1", user, post));
+        commentRepository.save(new Comment("댓글2", user, post));
+        Post empty = postRepository.save(new Post("빈 게시글", "내용", user));
+        postRepository.incrementCommentCount(empty.getId());
+
+        // when
+        commentCountRepairJob.repairAll();
+        entityManager.clear();
+
+        // then
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount()).isEqualTo(2L);
+        assertThat(postRepository.findById(empty.getId()).orElseThrow().getCommentCount()).isZero();
+    }
+}
@@ -0,0 +1,135 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.domain.Comment;
+import com.cursorboard.post.domain.Post;
+import com.cursorboard.post.infrastructure.CommentRepository;
+import com.cursorboard.post.infrastructure.PostRepository;
+import com.cursorboard.support.QueryCounter;
+import com.cursorboard.user.domain.User;
+import com.cursorboard.user.domain.UserRole;
+import com.cursorboard.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.QueryCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doCallRealMethod;
+
+/**
+ * 청크마다 커밋되는지와 실패 후 이어서 지우는지를 보려면 테스트 트랜잭션으로 감싸지 않아야 한다.
+ * 만든 데이터는 각 테스트가 끝난 뒤 직접 지운다. 스케줄 실행이 끼어들지 않도록 주기를 길게 둔다.
+ */
+@SpringBootTest(properties = {"board.post-purge.chunk-size=2", "board.post-purge.interval=PT24H"})
+class DeletedPostPurgeJobTest {
+
+    @Autowired
+    private DeletedPostPurgeJob deletedPostPurgeJob;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @SpyBean
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private Post deleted;
+    private Post alive;
+    private Comment aliveComment;
+    private final List<Long> deletedCommentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 이전 실행이 남긴 삭제 표시 게시글을 먼저 정리해 이번 실행의 결과만 센다.
+        deletedPostPurgeJob.purgeAll();
+
+        user = userRepository.save(new User("purge@example.com", "password", UserRole.USER));
+        deleted = postRepository.save(new Post("삭제할 글", "내용", user));
+        alive = postRepository.save(new Post("남길 글", "내용", user));
+        for (int i = 0; i < 5; i++) {
+            deletedCommentIds.add(commentRepository.save(new Comment("댓글" + i, user, deleted)).getId());
+        }
+        aliveComment = commentRepository.save(new Comment("남길 댓글", user, alive));
+        deleted.delete();
+        postRepository.save(deleted);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from comments where post_id in (?, ?)", deleted.getId(), alive.getId());
+        jdbcTemplate.update("delete from posts where id in (?, ?)", deleted.getId(), alive.getId());
+        jdbcTemplate.update("delete from users where id = ?", user.getId());
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글 정리 - 댓글을 청크 단위로 지운 뒤 게시글 삭제")
+    void purgeAllRemovesDeletedPostsAndComments() {
+        // given
+        double purgedComments = meterRegistry.get("board.post.purge.comments").counter().count();
+        int[] purged = new int[1];
+
+        // when
+        QueryCount count = QueryCounter.count(() -> purged[0] = deletedPostPurgeJob.purgeAll());
+
+        // then
+        assertThat(purged[0]).isEqualTo(1);
+        // 댓글 5건을 2건씩 세 청크(2, 2, 1)로 지우고 게시글 행을 지운다.
+        assertThat(count.getDelete()).isEqualTo(4);
+        assertThat(meterRegistry.get("board.post.purge.comments").counter().count() - purgedComments)
+                .isEqualTo(5.0);
+        assertThat(commentRepository.findAllById(deletedCommentIds)).isEmpty();
+        assertThat(commentRepository.findById(aliveComment.getId())).isPresent();
+        assertThat(postRepository.findDeletedIds(100)).doesNotContain(deleted.getId());
+        assertThat(postRepository.findById(alive.getId())).isPresent();
+        assertThat(meterRegistry.get("board.post.purge.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글 정리 - 중간에 실패하면 커밋된 청크는 남기고 다음 실행에서 이어서 삭제")
+    void purgeResumesAfterFailure() {
+        // given
+        doCallRealMethod()
+                .doThrow(new QueryTimeoutException("청크 삭제 실패"))
+                .doCallRealMethod()
+                .when(commentRepository).deleteChunkByPostId(anyLong(), anyInt());
+        double failures = meterRegistry.get("board.post.purge.failures").counter().count();
+
+        // when
+        int firstRun = deletedPostPurgeJob.purgeAll();
+        long remainingAfterFailure = countComments(deleted.getId());
+        int secondRun = deletedPostPurgeJob.purgeAll();
+
+        // then
+        assertThat(firstRun).isZero();
+        assertThat(remainingAfterFailure).isEqualTo(3);
+        assertThat(meterRegistry.get("board.post.purge.failures").counter().count() - failures).isEqualTo(1.0);
+        assertThat(secondRun).isEqualTo(1);
+        assertThat(countComments(deleted.getId())).isZero();
+        assertThat(postRepository.findDeletedIds(100)).doesNotContain(deleted.getId());
+    }
+
+    private long countComments(Long postId) {
+        return jdbcTemplate.queryForObject("select count(*) from comments where post_id = ?", Long.class, postId);
+    }
+}
@@ -0,0 +1,90 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.domain.Comment;
+import com.cursorboard.post.domain.Post;
+import com.cursorboard.post.infrastructure.CommentRepository;
+import com.cursorboard.post.infrastructure.PostRepository;
+import com.cursorboard.user.domain.User;
+import com.cursorboard.user.domain.UserRole;
+import com.cursorboard.user.infrastructure.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PostExportServiceTest {
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("게시글 내보내기 - 게시글마다 한 줄, 댓글은 작성 순으로 포함")
+    void exportPosts() throws Exception {
+        // given
+        User author = userRepository.save(new User("export-author@example.com", "password", UserRole.USER));
+        User commenter = userRepository.save(new User("export-commenter@example.com", "password", UserRole.USER));
+        Post withComments = postRepository.save(new Post("댓글 있는 글", "내용1", author));
+        Post withoutComments = postRepository.save(new Post("댓글 없는 글", "내용2", author));
+        commentRepository.save(new Comment("댓글1", commenter, withComments));
+        commentRepository.save(new Comment("댓글2", author, withComments));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        postExportService.exportPosts(output);
+
+        // then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : lines) {
+            records.add(objectMapper.readTree(line));
+        }
+        assertThat(records).hasSize((int) postRepository.count());
+        Map<Long, JsonNode> byId = records.stream()
+                .collect(Collectors.toMap(record -> record.get("id").asLong(), Function.identity()));
+
+        JsonNode first = byId.get(withComments.getId());
+        assertThat(first.get("title").asText()).isEqualTo("댓글 있는 글");
+        assertThat(first.get("authorEmail").asText()).isEqualTo("export-author@example.com");
+        assertThat(first.get("comments")).hasSize(2);
+        assertThat(first.get("comments").get(0).get("content").asText()).isEqualTo("댓글1");
+        assertThat(first.get("comments").get(0).get("authorEmail").asText()).isEqualTo("export-commenter@example.com");
+        assertThat(first.get("comments").get(1).get("content").asText()).isEqualTo("댓글2");
+
+        JsonNode second = byId.get(withoutComments.getId());
+        assertThat(second.get("comments")).isEmpty();
+        assertThat(second.get("createdAt").isTextual()).isTrue();
+    }
+}
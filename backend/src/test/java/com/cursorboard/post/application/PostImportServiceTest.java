@@ -0,0 +1,102 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.api.response.PostImportResponse;
+import com.cursorboard.post.domain.Post;
+import com.cursorboard.post.infrastructure.PostRepository;
+import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.user.domain.User;
+import com.cursorboard.user.domain.UserRole;
+import com.cursorboard.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "board.import.chunk-size=2")
+@Transactional
+@RecordApplicationEvents
+class PostImportServiceTest {
+
+    @Autowired
+    private PostImportService postImportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    @DisplayName("게시글 가져오기 - chunk 단위 저장과 댓글 수")
+    void importPosts() throws Exception {
+        // given
+        User admin = userRepository.save(new User("import-admin@example.com", "password", UserRole.ADMIN));
+        User author = userRepository.save(new User("import-author@example.com", "password", UserRole.USER));
+        long before = postRepository.count();
+        InputStream input = ndjson(
+            "{\"title\":\"첫 글\",\"content\":\"내용1\",\"authorEmail\":\"import-author@example.com\"," +
+                "\"comments\":[{\"content\":\"댓글1\"},{\"content\":\"댓글2\",\"authorEmail\":\"import-author@example.com\"}]}",
+            "{\"title\":\"두 번째 글\",\"content\":\"내용2\"}",
+            "{\"title\":\"세 번째 글\",\"content\":\"내용3\",\"comments\":[{\"content\":\"댓글3\"}]}");
+
+        // when
+        PostImportResponse response = postImportService.importPosts(principal(admin), input);
+        entityManager.clear();
+
+        // then
+        assertThat(response.getImportedPosts()).isEqualTo(3);
+        assertThat(response.getImportedComments()).isEqualTo(3);
+        assertThat(postRepository.count()).isEqualTo(before + 3);
+        List<Post> imported = postRepository.findAll().stream()
+            .filter(post -> post.getTitle().equals("첫 글"))
+            .toList();
+        assertThat(imported).hasSize(1);
+        assertThat(imported.get(0).getCommentCount()).isEqualTo(2);
+        assertThat(imported.get(0).getUser().getId()).isEqualTo(author.getId());
+        // chunk-size=2 이므로 chunk 당 한 번씩, 게시글별 이벤트 없이 발행된다.
+        assertThat(events.stream(PostsImportedEvent.class).map(event -> event.getPostIds().size()))
+            .containsExactly(2, 1);
+        assertThat(events.stream(PostChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 가져오기 실패 - 잘못된 줄 위치 안내")
+    void importPostsWithInvalidLine() {
+        // given
+        User admin = userRepository.save(new User("import-admin@example.com", "password", UserRole.ADMIN));
+        InputStream input = ndjson(
+            "{\"title\":\"정상 글\",\"content\":\"내용\"}",
+            "{\"title\":\"\",\"content\":\"내용\"}");
+
+        // when & then
+        assertThatThrownBy(() -> postImportService.importPosts(principal(admin), input))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("2번째 게시글을 가져오지 못했습니다.");
+    }
+
+    private static UserPrincipal principal(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), null, user.getRole());
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,16 +1,25 @@
 package com.cursorboard.post.application;
 
+import com.cursorboard.common.CursorPage;
 import com.cursorboard.post.api.request.CommentRequest;
 import com.cursorboard.post.api.request.PostRequest;
 import com.cursorboard.post.api.response.CommentResponse;
 import com.cursorboard.post.api.response.PostResponse;
+import com.cursorboard.post.api.response.PostSummaryResponse;
 import com.cursorboard.post.domain.Comment;
 import com.cursorboard.post.domain.Post;
 import com.cursorboard.post.infrastructure.CommentRepository;
 import com.cursorboard.post.infrastructure.PostRepository;
+import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.support.QueryBudget;
+import com.cursorboard.support.QueryCounter;
 import com.cursorboard.user.domain.User;
 import com.cursorboard.user.domain.UserRole;
 import com.cursorboard.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.QueryCount;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,12 +29,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 class PostServiceTest {
 
@@ -44,6 +51,12 @@ class PostServiceTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
     private User user;
     private User admin;
     private PostRequest postRequest;
@@ -64,7 +77,7 @@ class PostServiceTest {
     @DisplayName("게시글 작성 성공")
     void createPostSuccess() {
         // when
-        PostResponse response = postService.createPost(user.getEmail(), postRequest);
+        PostResponse response = postService.createPost(principal(user), postRequest);
 
         // then
         assertThat(response.getTitle()).isEqualTo(postRequest.getTitle());
@@ -81,7 +94,7 @@ class PostServiceTest {
         PostRequest updateRequest = new PostRequest("수정된 제목", "수정된 내용");
 
         // when
-        PostResponse response = postService.updatePost(user.getEmail(), post.getId(), updateRequest);
+        PostResponse response = postService.updatePost(principal(user), post.getId(), updateRequest);
 
         // then
         assertThat(response.getTitle()).isEqualTo(updateRequest.getTitle());
@@ -97,7 +110,7 @@ class PostServiceTest {
         PostRequest updateRequest = new PostRequest("수정된 제목", "수정된 내용");
 
         // when
-        PostResponse response = postService.updatePost(admin.getEmail(), post.getId(), updateRequest);
+        PostResponse response = postService.updatePost(principal(admin), post.getId(), updateRequest);
 
         // then
         assertThat(response.getTitle()).isEqualTo(updateRequest.getTitle());
@@ -115,7 +128,7 @@ class PostServiceTest {
         userRepository.save(otherUser);
 
         // when & then
-        assertThatThrownBy(() -> postService.updatePost(otherUser.getEmail(), post.getId(), updateRequest))
+        assertThatThrownBy(() -> postService.updatePost(principal(otherUser), post.getId(), updateRequest))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("게시글을 수정할 권한이 없습니다.");
     }
@@ -128,7 +141,9 @@ class PostServiceTest {
         postRepository.save(post);
 
         // when
-        postService.deletePost(user.getEmail(), post.getId());
+        postService.deletePost(principal(user), post.getId());
+        entityManager.flush();
+        entityManager.clear();
 
         // then
         assertThat(postRepository.findById(post.getId())).isEmpty();
@@ -142,12 +157,41 @@ class PostServiceTest {
         postRepository.save(post);
 
         // when
-        postService.deletePost(admin.getEmail(), post.getId());
+        postService.deletePost(principal(admin), post.getId());
+        entityManager.flush();
+        entityManager.clear();
 
         // then
         assertThat(postRepository.findById(post.getId())).isEmpty();
     }
 
+    @Test
+    @DisplayName("게시글 삭제 - 삭제 표시된 게시글은 목록/상세/댓글 조회에서 제외")
+    void deletedPostIsHiddenFromReads() {
+        // given
+        Post post = postRepository.save(new Post(postRequest.getTitle(), postRequest.getContent(), user));
+        Comment comment = commentRepository.save(new Comment(commentRequest.getContent(), user, post));
+
+        // when
+        postService.deletePost(principal(user), post.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(postService.getPosts(null, 100).getItems())
+                .extracting(PostSummaryResponse::getId)
+                .doesNotContain(post.getId());
+        assertThatThrownBy(() -> postService.getPost(post.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postService.getComments(post.getId(), null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postService.createComment(principal(user), post.getId(), commentRequest))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postService.deleteComment(principal(user), comment.getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("댓글을 찾을 수 없습니다.");
+    }
+
     @Test
     @DisplayName("게시글 삭제 실패 - 권한 없음")
     void deletePostFailWithNoPermission() {
@@ -158,14 +202,14 @@ class PostServiceTest {
         userRepository.save(otherUser);
 
         // when & then
-        assertThatThrownBy(() -> postService.deletePost(otherUser.getEmail(), post.getId()))
+        assertThatThrownBy(() -> postService.deletePost(principal(otherUser), post.getId()))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("게시글을 삭제할 권한이 없습니다.");
     }
 
     @Test
-    @DisplayName("게시글 목록 조회 성공")
-    void getAllPostsSuccess() {
+    @DisplayName("게시글 목록 조회 성공 - 최신순 첫 페이지")
+    void getPostsFirstPageSuccess() {
         // given
         Post post1 = new Post("제목1", "내용1", user);
         Post post2 = new Post("제목2", "내용2", admin);
@@ -173,12 +217,59 @@ class PostServiceTest {
         postRepository.save(post2);
 
         // when
-        List<PostResponse> posts = postService.getAllPosts();
+        CursorPage<PostSummaryResponse> page = postService.getPosts(null, 20);
+
+        // then
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.getItems().get(0).getTitle()).isEqualTo("제목2");
+        assertThat(page.getItems().get(1).getTitle()).isEqualTo("제목1");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 성공 - 댓글 수 포함")
+    void getPostsWithCommentCount() {
+        // given
+        Post post = new Post(postRequest.getTitle(), postRequest.getContent(), user);
+        postRepository.save(post);
+        postService.createComment(principal(user), post.getId(), new CommentRequest("댓글1"));
+        postService.createComment(principal(admin), post.getId(), new CommentRequest("댓글2"));
+
+        // when
+        CursorPage<PostSummaryResponse> page = postService.getPosts(null, 20);
+
+        // then
+        PostSummaryResponse summary = page.getItems().get(0);
+        assertThat(summary.getAuthorEmail()).isEqualTo(user.getEmail());
+        assertThat(summary.getCommentCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 성공 - 커서로 다음 페이지")
+    void getPostsNextPageSuccess() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            postRepository.save(new Post("제목" + i, "내용" + i, user));
+        }
+
+        // when
+        CursorPage<PostSummaryResponse> first = postService.getPosts(null, 2);
+        CursorPage<PostSummaryResponse> second = postService.getPosts(first.getNextCursor(), 2);
 
         // then
-        assertThat(posts).hasSize(2);
-        assertThat(posts.get(0).getTitle()).isEqualTo("제목1");
-        assertThat(posts.get(1).getTitle()).isEqualTo("제목2");
+        assertThat(first.getItems()).extracting(PostSummaryResponse::getTitle).containsExactly("제목3", "제목2");
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getItems()).extracting(PostSummaryResponse::getTitle).containsExactly("제목1");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 실패 - 잘못된 커서")
+    void getPostsFailWithInvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> postService.getPosts("not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
     }
 
     @Test
@@ -197,6 +288,163 @@ class PostServiceTest {
         assertThat(response.getAuthorEmail()).isEqualTo(user.getEmail());
     }
 
+    @Test
+    @DisplayName("게시글 상세 조회 - 댓글 작성자 수와 무관하게 2개의 쿼리로 조회")
+    void getPostLoadsDetailWithBoundedQueries() {
+        // given
+        Post post = new Post(postRequest.getTitle(), postRequest.getContent(), user);
+        postRepository.save(post);
+        for (int i = 0; i < 5; i++) {
+            User commenter = userRepository.save(
+                    new User("commenter" + i + "@example.com", "password", UserRole.USER));
+            commentRepository.save(new Comment("댓글" + i, commenter, post));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        PostResponse response = postService.getPost(post.getId());
+
+        // then
+        assertThat(response.getAuthorEmail()).isEqualTo(user.getEmail());
+        assertThat(response.getComments()).hasSize(5);
+        assertThat(response.getComments()).extracting(CommentResponse::getAuthorEmail)
+                .containsExactly("commenter0@example.com", "commenter1@example.com", "commenter2@example.com",
+                        "commenter3@example.com", "commenter4@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @QueryBudget(select = 1, total = 1)
+    @DisplayName("쿼리 예산 - 목록 조회는 작성자/댓글 수를 포함해 1개의 select")
+    void getPostsWithinQueryBudget() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            User author = userRepository.save(new User("author" + i + "@example.com", "password", UserRole.USER));
+            Post post = postRepository.save(new Post("제목" + i, "내용" + i, author));
+            commentRepository.save(new Comment("댓글" + i, user, post));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        QueryCounter.reset();
+
+        // when
+        CursorPage<PostSummaryResponse> page = postService.getPosts(null, 20);
+
+        // then
+        assertThat(page.getItems()).hasSize(3);
+    }
+
+    @Test
+    @QueryBudget(select = 2, total = 2)
+    @DisplayName("쿼리 예산 - 상세 조회(캐시 미스)는 게시글 1개 + 댓글 1개의 select")
+    void getPostWithinQueryBudget() {
+        // given
+        Post post = postRepository.save(new Post(postRequest.getTitle(), postRequest.getContent(), user));
+        for (int i = 0; i < 3; i++) {
+            User commenter = userRepository.save(new User("commenter" + i + "@example.com", "password", UserRole.USER));
+            commentRepository.save(new Comment("댓글" + i, commenter, post));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        QueryCounter.reset();
+
+        // when
+        PostResponse response = postService.getPost(post.getId());
+
+        // then
+        assertThat(response.getComments()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("쿼리 예산 - 게시글 작성은 사용자 조회 없이 insert 1개")
+    void createPostWithinQueryBudget() {
+        // when
+        QueryCount count = QueryCounter.count(() -> {
+            postService.createPost(principal(user), postRequest);
+            entityManager.flush();
+        });
+
+        // then
+        // select/update 는 id 블록(allocationSize=50)을 새로 받을 때만 한 번씩 실행된다.
+        assertThat(count.getInsert()).isEqualTo(1);
+        assertThat(count.getSelect()).isLessThanOrEqualTo(1);
+        assertThat(count.getUpdate()).isLessThanOrEqualTo(1);
+        assertThat(count.getDelete()).isZero();
+    }
+
+    @Test
+    @DisplayName("쿼리 예산 - 게시글 삭제는 댓글 수와 무관하게 select 1개, update 1개")
+    void deletePostWithinQueryBudget() {
+        // given
+        Post post = postRepository.save(new Post(postRequest.getTitle(), postRequest.getContent(), user));
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(new Comment("댓글" + i, user, post));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        QueryCount count = QueryCounter.count(() -> {
+            postService.deletePost(principal(user), post.getId());
+            entityManager.flush();
+        });
+
+        // then
+        // 삭제 표시만 하므로 댓글을 읽거나 지우지 않는다.
+        assertThat(count.getSelect()).isEqualTo(1);
+        assertThat(count.getUpdate()).isEqualTo(1);
+        assertThat(count.getDelete()).isZero();
+        assertThat(count.getInsert()).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글 조회수 - 조회 즉시 응답에 반영되고 flush 후 DB 에 저장")
+    void getPostCountsViewsAndFlushes() {
+        // given
+        Post post = new Post(postRequest.getTitle(), postRequest.getContent(), user);
+        postRepository.save(post);
+
+        // when
+        postService.getPost(post.getId());
+        PostResponse second = postService.getPost(post.getId());
+        viewCountBuffer.flush();
+        entityManager.clear();
+        PostResponse third = postService.getPost(post.getId());
+
+        // then
+        assertThat(second.getViewCount()).isEqualTo(2L);
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getViewCount()).isEqualTo(2L);
+        // flush 는 캐시를 비우지 않고 반영된 조회수를 캐시된 상세에 더한다.
+        assertThat(third.getViewCount()).isEqualTo(3L);
+        assertThat(viewCountBuffer.pendingCount(post.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 커서 조회 성공")
+    void getCommentsWithCursorSuccess() {
+        // given
+        Post post = new Post(postRequest.getTitle(), postRequest.getContent(), user);
+        postRepository.save(post);
+        for (int i = 1; i <= 3; i++) {
+            commentRepository.save(new Comment("댓글" + i, user, post));
+        }
+
+        // when
+        CursorPage<CommentResponse> first = postService.getComments(post.getId(), null, 2);
+        CursorPage<CommentResponse> second = postService.getComments(post.getId(), first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getItems()).extracting(CommentResponse::getContent).containsExactly("댓글1", "댓글2");
+        assertThat(second.getItems()).extracting(CommentResponse::getContent).containsExactly("댓글3");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("댓글 작성 성공")
     void createCommentSuccess() {
@@ -205,13 +453,31 @@ class PostServiceTest {
         postRepository.save(post);
 
         // when
-        CommentResponse response = postService.createComment(user.getEmail(), post.getId(), commentRequest);
+        CommentResponse response = postService.createComment(principal(user), post.getId(), commentRequest);
 
         // then
         assertThat(response.getContent()).isEqualTo(commentRequest.getContent());
         assertThat(response.getAuthorEmail()).isEqualTo(user.getEmail());
     }
 
+    @Test
+    @DisplayName("댓글 작성/삭제 시 댓글 수 갱신")
+    void commentCountFollowsCreateAndDelete() {
+        // given
+        Post post = new Post(postRequest.getTitle(), postRequest.getContent(), user);
+        postRepository.save(post);
+
+        // when
+        CommentResponse first = postService.createComment(principal(user), post.getId(), commentRequest);
+        postService.createComment(principal(user), post.getId(), commentRequest);
+        postService.deleteComment(principal(user), first.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount()).isEqualTo(1L);
+    }
+
     @Test
     @DisplayName("댓글 삭제 성공 - 작성자")
     void deleteCommentSuccessByAuthor() {
@@ -222,7 +488,7 @@ class PostServiceTest {
         commentRepository.save(comment);
 
         // when
-        postService.deleteComment(user.getEmail(), comment.getId());
+        postService.deleteComment(principal(user), comment.getId());
 
         // then
         assertThat(commentRepository.findById(comment.getId())).isEmpty();
@@ -238,7 +504,7 @@ class PostServiceTest {
         commentRepository.save(comment);
 
         // when
-        postService.deleteComment(admin.getEmail(), comment.getId());
+        postService.deleteComment(principal(admin), comment.getId());
 
         // then
         assertThat(commentRepository.findById(comment.getId())).isEmpty();
@@ -256,8 +522,12 @@ class PostServiceTest {
         userRepository.save(otherUser);
 
         // when & then
-        assertThatThrownBy(() -> postService.deleteComment(otherUser.getEmail(), comment.getId()))
+        assertThatThrownBy(() -> postService.deleteComment(principal(otherUser), comment.getId()))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("댓글을 삭제할 권한이 없습니다.");
     }
-} 
\ No newline at end of file
+
+    private static UserPrincipal principal(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), null, user.getRole());
+    }
+}
@@ -0,0 +1,74 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.api.response.PostSummaryResponse;
+import com.cursorboard.post.api.response.TrendingPostResponse;
+import com.cursorboard.post.infrastructure.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrendingRankingTest {
+
+    private PostRepository postRepository;
+    private TrendingRanking trendingRanking;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        trendingRanking = new TrendingRanking(postRepository, Duration.ofHours(6), Duration.ofDays(3), 10, 5, 1);
+    }
+
+    @Test
+    @DisplayName("댓글과 조회가 많은 글이 상위")
+    void rankByActivity() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        created(1L, "조용한 글", now);
+        created(2L, "댓글 많은 글", now);
+        created(3L, "조회 많은 글", now);
+
+        // when
+        trendingRanking.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.COMMENT_CREATED, 2L));
+        trendingRanking.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.COMMENT_CREATED, 2L));
+        trendingRanking.recordViews(3L, 3);
+
+        // then
+        List<TrendingPostResponse> top = trendingRanking.top(10);
+        assertThat(top).extracting(TrendingPostResponse::getId).containsExactly(2L, 3L, 1L);
+        assertThat(top.get(0).getScore()).isCloseTo(20.0, offset(0.1));
+    }
+
+    @Test
+    @DisplayName("오래된 글은 감쇠되어 새 글보다 아래, 최근 활동이 생기면 다시 상위")
+    void olderPostsDecay() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        created(1L, "이틀 전 글", now.minusDays(2));
+        created(2L, "방금 쓴 글", now);
+        assertThat(trendingRanking.top(10)).extracting(TrendingPostResponse::getId).containsExactly(2L, 1L);
+
+        // when
+        trendingRanking.recordViews(1L, 50);
+
+        // then
+        assertThat(trendingRanking.top(10)).extracting(TrendingPostResponse::getId).containsExactly(1L, 2L);
+        trendingRanking.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.POST_DELETED, 1L));
+        assertThat(trendingRanking.top(10)).extracting(TrendingPostResponse::getId).containsExactly(2L);
+    }
+
+    private void created(Long postId, String title, LocalDateTime createdAt) {
+        PostSummaryResponse summary = new PostSummaryResponse(postId, title, "user@example.com", 0L, 0L, createdAt, createdAt);
+        when(postRepository.findSummariesByIdIn(eq(List.of(postId)))).thenReturn(List.of(summary));
+        trendingRanking.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.POST_CREATED, postId));
+    }
+}
@@ -0,0 +1,109 @@
+package com.cursorboard.post.application;
+
+import com.cursorboard.post.api.response.PostResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ViewCountBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private PostDetailCache postDetailCache;
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        postDetailCache = new PostDetailCache(true, 100, Duration.ofMinutes(10), meterRegistry);
+        viewCountBuffer = new ViewCountBuffer(jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                postDetailCache, mock(TrendingRanking.class), meterRegistry, 500);
+    }
+
+    @Test
+    @DisplayName("flush 와 유휴 항목 정리가 동시에 돌아도 증가분이 유실되지 않는다")
+    void noIncrementLostWhileFlushing() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    // 글마다 조회가 끊기는 구간을 만들어 flush 가 유휴 항목을 지우는 경로도 타게 한다.
+                    viewCountBuffer.increment((long) (i / 100 % 4));
+                }
+                done.countDown();
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                viewCountBuffer.flush();
+            }
+        });
+        flusher.start();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        executor.shutdown();
+        viewCountBuffer.flush();
+
+        // then
+        double flushed = meterRegistry.get("board.view_count.flushed").counter().count();
+        assertThat((long) flushed).isEqualTo((long) threads * perThread);
+        for (long postId = 0; postId < 4; postId++) {
+            assertThat(viewCountBuffer.pendingCount(postId)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("flush 전에 적재된 상세는 조회수를 더하고, flush 도중 적재된 상세는 지운다")
+    void addViewsOnlyToEntriesLoadedBeforeFlush() {
+        // given
+        postDetailCache.get(1L, id -> post(id, 10));
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+        // UPDATE 커밋 직후 다른 요청이 2번 글을 적재해 반영된 조회수(10 + 1)를 이미 읽은 상황.
+        doAnswer(invocation -> {
+            postDetailCache.get(2L, id -> post(id, 11));
+            return new int[]{1, 1};
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(postDetailCache.get(1L, id -> post(id, -1)).getViewCount()).isEqualTo(11);
+        assertThat(postDetailCache.get(2L, id -> post(id, 11)).getViewCount()).isEqualTo(11);
+    }
+
+    private static PostResponse post(Long id, long viewCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PostResponse(id, "제목", "내용", "user@test.com", 0, viewCount, List.of(), null, now, now);
+    }
+}
@@ -0,0 +1,112 @@
+package com.cursorboard.post.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("토크나이저 - 질의의 한글은 bigram, 영문은 소문자 단어")
+    void tokenizeKoreanBigramsAndWords() {
+        assertThat(Tokenizer.tokenizeQuery("게시판 검색 API, v2!"))
+                .containsExactly("게시", "시판", "검색", "api", "v2");
+        assertThat(Tokenizer.tokenizeQuery("글")).containsExactly("글");
+    }
+
+    @Test
+    @DisplayName("토크나이저 - 문서의 한글은 글자 하나짜리 토큰도 함께 색인")
+    void tokenizeDocumentWithUnigrams() {
+        assertThat(Tokenizer.tokenize("게시판 v2"))
+                .containsExactly("게", "시", "판", "게시", "시판", "v2");
+    }
+
+    @Test
+    @DisplayName("한 글자 질의도 긴 단어 안에서 찾음")
+    void searchSingleCharacter() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, 1L, "새 글쓰기 안내", "본문");
+        index.put(2L, 1L, "날씨", "맑음");
+
+        // when & then
+        assertThat(index.search("글", 10)).containsExactly(1L);
+        assertThat(index.search("글쓰기", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("BM25 - 제목에 등장한 문서가 본문에만 등장한 문서보다 먼저")
+    void searchRanksTitleMatchesFirst() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, 1L, "오늘의 점심", "맛집 게시판에서 추천받은 메뉴");
+        index.put(2L, 1L, "게시판 이용 안내", "공지 사항입니다");
+        index.put(3L, 1L, "날씨", "맑음");
+
+        // when & then
+        assertThat(index.search("게시판", 10)).containsExactly(2L, 1L);
+        assertThat(index.search("없는단어", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제 반영 - 오래된 stamp 로는 덮어쓰지 않음")
+    void putIgnoresOlderStampAndRemoveDeletes() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, 20L, "새 제목", "새 본문");
+
+        // when
+        boolean applied = index.put(1L, 10L, "옛 제목", "옛 본문");
+
+        // then
+        assertThat(applied).isFalse();
+        assertThat(index.search("새 제목", 10)).containsExactly(1L);
+        assertThat(index.search("옛", 10)).isEmpty();
+
+        index.remove(1L);
+        assertThat(index.search("새 제목", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 후 뒤늦게 도착한 put 은 문서를 되살리지 않음")
+    void putAfterRemoveIsIgnored() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, 10L, "삭제될 글", "본문");
+        index.remove(1L);
+
+        // when
+        boolean applied = index.put(1L, 20L, "삭제될 글", "수정된 본문");
+
+        // then
+        assertThat(applied).isFalse();
+        assertThat(index.search("삭제될", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장 후 다시 읽으면 같은 결과")
+    void snapshotRoundTrip() throws IOException {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, 5L, "Spring 게시판", "JPA 와 검색");
+        index.put(2L, 7L, "Vue 화면", "게시판 목록");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeTo(out);
+
+        // when
+        InvertedIndex restored = new InvertedIndex();
+        restored.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        // then
+        assertThat(restored.stamps()).isEqualTo(index.stamps());
+        assertThat(restored.search("게시판", 10)).isEqualTo(index.search("게시판", 10));
+        assertThat(restored.search("spring", 10)).containsExactly(1L);
+    }
+}
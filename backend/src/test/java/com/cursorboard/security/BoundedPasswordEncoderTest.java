@@ -0,0 +1,55 @@
+package com.cursorboard.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("전용 풀에서 해시 후 검증")
+    void encodeAndMatches() {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 1, 4, meterRegistry);
+
+        // when
+        String hash = encoder.encode("password");
+
+        // then
+        assertThat(encoder.matches("password", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("board.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절")
+    void rejectsWhenQueueIsFull() throws Exception {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(14, 1, 1, meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        while (meterRegistry.get("board.password.active").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (meterRegistry.get("board.password.queue").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("third"))
+            .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("board.password.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(running.get()).isNotBlank();
+        assertThat(queued.get()).isNotBlank();
+        encoder.shutdown();
+    }
+}
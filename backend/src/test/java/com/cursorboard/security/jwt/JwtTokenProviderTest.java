@@ -0,0 +1,64 @@
+package com.cursorboard.security.jwt;
+
+import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.user.domain.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "cursor-board-jwt-secret-key-256-bits-long-1234567890abcdefghijklmnopqrstuvwxyz";
+
+    @Test
+    @DisplayName("토큰 한 번 파싱으로 사용자 id, 이메일, 권한 조회")
+    void resolveClaimsReturnsUsernameAndRole() {
+        // given
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60, 100, 300);
+        String token = createToken(tokenProvider, 7L, "user@example.com", UserRole.ADMIN);
+
+        // when
+        JwtClaims claims = tokenProvider.resolveClaims(token).orElseThrow();
+
+        // then
+        assertThat(claims.getUserId()).isEqualTo(7L);
+        assertThat(claims.getUsername()).isEqualTo("user@example.com");
+        assertThat(claims.getRole()).isEqualTo("ADMIN");
+    }
+
+    @Test
+    @DisplayName("위조된 토큰은 캐시 여부와 관계없이 거부")
+    void resolveClaimsRejectsTamperedToken() {
+        // given
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60, 100, 300);
+        String token = createToken(tokenProvider, 7L, "user@example.com", UserRole.USER);
+        tokenProvider.resolveClaims(token);
+
+        // when & then
+        assertThat(tokenProvider.resolveClaims(token + "x")).isEmpty();
+        assertThat(tokenProvider.resolveClaims("not.a.token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 exp 이후에는 거부")
+    void resolveClaimsHonorsExpiration() throws InterruptedException {
+        // given
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 1, 100, 300);
+        String token = createToken(tokenProvider, 7L, "user@example.com", UserRole.USER);
+        assertThat(tokenProvider.resolveClaims(token)).isPresent();
+
+        // when
+        Thread.sleep(1500);
+
+        // then
+        assertThat(tokenProvider.resolveClaims(token)).isEmpty();
+    }
+
+    private String createToken(JwtTokenProvider tokenProvider, Long userId, String email, UserRole role) {
+        UserPrincipal principal = new UserPrincipal(userId, email, null, role);
+        return tokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.cursorboard.security.ratelimit;
+
+import com.cursorboard.security.UserPrincipal;
+import com.cursorboard.user.domain.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("capacity 만큼 연속 허용 후 거절하고, 토큰 하나가 차는 시간이 지나면 다시 허용")
+    void burstThenRefill() {
+        // given
+        RateLimitPolicy policy = policy(3, Duration.ofSeconds(3));
+        RateLimiter rateLimiter = new RateLimiter(true, List.of(policy), now::get, meterRegistry);
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.2")).isZero();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isPositive();
+        assertThat(meterRegistry.get("board.ratelimit.rejected").tag("policy", "test").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 정리")
+    void evictsOnlyFullBuckets() {
+        // given
+        RateLimitPolicy policy = policy(2, Duration.ofSeconds(2));
+        RateLimiter rateLimiter = new RateLimiter(true, List.of(policy), now::get, meterRegistry);
+        rateLimiter.tryAcquire(policy, "idle");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        rateLimiter.tryAcquire(policy, "busy");
+        rateLimiter.tryAcquire(policy, "busy");
+
+        // when
+        rateLimiter.evictIdleBuckets();
+
+        // then
+        assertThat(meterRegistry.get("board.ratelimit.buckets").gauge().value()).isEqualTo(1.0);
+        assertThat(rateLimiter.tryAcquire(policy, "busy")).isPositive();
+    }
+
+    @Test
+    @DisplayName("필터 - 인증된 사용자 기준으로 제한하고 429 와 Retry-After 로 응답")
+    void filterRejectsWithRetryAfter() throws Exception {
+        // given
+        RateLimitPolicy policy = policy(1, Duration.ofSeconds(30));
+        RateLimitFilter filter = new RateLimitFilter(
+                new RateLimiter(true, List.of(policy), now::get, meterRegistry), new ObjectMapper());
+        UserPrincipal principal = new UserPrincipal(7L, "limited@example.com", null, UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // when
+        MockHttpServletResponse first = doFilter(filter, "10.0.0.1");
+        MockHttpServletResponse second = doFilter(filter, "10.0.0.2");
+        MockHttpServletResponse unlimited = doFilter(filter, new MockHttpServletRequest("GET", "/api/posts"));
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(second.getContentAsString()).contains("\"code\":\"TOO_MANY_REQUESTS\"");
+        assertThat(unlimited.getStatus()).isEqualTo(200);
+    }
+
+    private RateLimitPolicy policy(int capacity, Duration period) {
+        return new RateLimitPolicy("test", "POST", "/api/posts"::equals, true, capacity, period, meterRegistry);
+    }
+
+    private MockHttpServletResponse doFilter(RateLimitFilter filter, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/posts");
+        request.setRemoteAddr(remoteAddr);
+        return doFilter(filter, request);
+    }
+
+    private MockHttpServletResponse doFilter(RateLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,39 @@
+package com.cursorboard.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 서버 스레드에서 처리되는 HTTP 요청의 쿼리 수를 board.handler.queries 메트릭의 증가분으로 구한다.
+ * 같은 핸들러로 가는 요청이 동시에 없을 때만 정확하다.
+ */
+public final class HandlerQueryCounter {
+
+    private static final String METRIC = "board.handler.queries";
+
+    private HandlerQueryCounter() {
+    }
+
+    public static long count(MeterRegistry meterRegistry, String handler, Runnable request) {
+        long countBefore = requests(meterRegistry, handler);
+        double totalBefore = statements(meterRegistry, handler);
+        request.run();
+        // 메트릭은 afterCompletion 에서 기록되므로 응답을 받은 뒤 조금 늦을 수 있다.
+        await().atMost(Duration.ofSeconds(2)).until(() -> requests(meterRegistry, handler) > countBefore);
+        return Math.round(statements(meterRegistry, handler) - totalBefore);
+    }
+
+    private static long requests(MeterRegistry meterRegistry, String handler) {
+        DistributionSummary summary = meterRegistry.find(METRIC).tag("handler", handler).summary();
+        return summary == null ? 0 : summary.count();
+    }
+
+    private static double statements(MeterRegistry meterRegistry, String handler) {
+        DistributionSummary summary = meterRegistry.find(METRIC).tag("handler", handler).summary();
+        return summary == null ? 0 : summary.totalAmount();
+    }
+}
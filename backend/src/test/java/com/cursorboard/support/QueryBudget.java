@@ -0,0 +1,30 @@
+package com.cursorboard.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행된 SQL 문 수의 상한. 지정하지 않은 종류는 검사하지 않는다.
+ * given 단계의 쿼리는 QueryCounter.reset() 으로 빼고, 쓰기 문장은 flush 해야 집계된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int UNLIMITED = -1;
+
+    int select() default UNLIMITED;
+
+    int insert() default UNLIMITED;
+
+    int update() default UNLIMITED;
+
+    int delete() default UNLIMITED;
+
+    int total() default UNLIMITED;
+}
@@ -0,0 +1,50 @@
+package com.cursorboard.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @QueryBudget 이 붙은 테스트 메서드 실행 전후로 현재 스레드의 쿼리 수를 초기화/검사한다.
+ * @BeforeEach 의 쿼리는 포함되지 않는다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCounter.reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        if (budget != null) {
+            assertWithin(budget, QueryCounter.current());
+        }
+    }
+
+    static void assertWithin(QueryBudget budget, QueryCount actual) {
+        List<String> exceeded = new ArrayList<>();
+        check(exceeded, "select", budget.select(), actual.getSelect());
+        check(exceeded, "insert", budget.insert(), actual.getInsert());
+        check(exceeded, "update", budget.update(), actual.getUpdate());
+        check(exceeded, "delete", budget.delete(), actual.getDelete());
+        check(exceeded, "total", budget.total(), actual.getTotal());
+        if (!exceeded.isEmpty()) {
+            throw new AssertionError("Query budget exceeded: " + String.join(", ", exceeded));
+        }
+    }
+
+    private static void check(List<String> exceeded, String type, int limit, long actual) {
+        if (limit != QueryBudget.UNLIMITED && actual > limit) {
+            exceeded.add(type + " " + actual + " > " + limit);
+        }
+    }
+}
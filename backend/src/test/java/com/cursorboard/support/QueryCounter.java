@@ -0,0 +1,32 @@
+package com.cursorboard.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/**
+ * datasource-proxy 가 현재 스레드에 누적한 SQL 문 수를 다룬다. 배치로 실행된 같은 문장은 한 번으로 센다.
+ */
+public final class QueryCounter {
+
+    private QueryCounter() {
+    }
+
+    public static void reset() {
+        QueryCountHolder.clear();
+    }
+
+    public static QueryCount current() {
+        return QueryCountHolder.getGrandTotal();
+    }
+
+    /**
+     * 블록 안에서 실행된 쿼리 수를 돌려준다. 블록 밖에서 누적된 값은 지워진다.
+     */
+    public static QueryCount count(Runnable block) {
+        reset();
+        block.run();
+        QueryCount count = current();
+        reset();
+        return count;
+    }
+}
@@ -8,7 +8,20 @@ export interface Post {
   title: string;
   content: string;
   authorEmail: string;
+  commentCount: number;
+  viewCount: number;
   comments: Comment[];
+  nextCommentCursor: string | null;
+  createdAt: string;
+  updatedAt: string;
+}
+
+export interface PostSummary {
+  id: number;
+  title: string;
+  authorEmail: string;
+  commentCount: number;
+  viewCount: number;
   createdAt: string;
   updatedAt: string;
 }
@@ -34,6 +47,12 @@ export interface CommentRequest {
   content: string;
 }
 
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 export interface ApiResponse<T> {
   success: boolean;
   code: string;